@@ -1,24 +1,51 @@
-package project;
-import java.io.FileNotFoundException;
-
-/**************************************************************
- * AddMultipleEvents interface.
- *	
- * This interface will be implements by a JButton to add a series
- * of events to the EventList. When being pressed, this AddMultipleEvents 
- * JButton will emit a MouseEvent to StateMachine. From there, the 
- * getEvents method of this JButton will be called to return an array
- * of Events to add to the EventList. 
- *************************************************************/
-public interface AddMultipleEvents {
-	
-	/*
-	 * getEvents method.
-	 * ------
-	 * Since this interface is implemented by the "From File" button
-	 * that involves opening a file, the FileNotFoundException is thrown.
-	 * 
-	 * @return an array of Event objects. 
-	 */
-	public Event [] getEvents() throws FileNotFoundException;
-}
+package project;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+/**************************************************************
+ * AddMultipleEvents interface.
+ *	
+ * This interface will be implements by a JButton to add a series
+ * of events to the EventList. When being pressed, this AddMultipleEvents 
+ * JButton will emit a MouseEvent to StateMachine. From there, the 
+ * importRecurringEvents method of this JButton will be called to 
+ * start pushing the RecurringEvents to add to the EventList, grouped
+ * in ImportRuns of consecutive lines, from a background thread. The
+ * occurrences skipped because of a conflict are reported back with 
+ * reportConflicts.
+ *************************************************************/
+public interface AddMultipleEvents {
+	
+	/*
+	 * importRecurringEvents method.
+	 * ------
+	 * Start importing RecurringEvents in the background. It is called on
+	 * the event dispatch thread and returns at once. The import may be 
+	 * cancelled by the user or stopped by an error, which is shown by the
+	 * implementation; the ImportRuns pushed before stay added.
+	 * 
+	 * @param sink a Consumer that receives the ImportRuns of the
+	 * 		  RecurringEvents as soon as they are read. It is called on 
+	 * 		  a background thread, and sets the scheduled count of each
+	 * 		  ImportRun before it returns.
+	 * @param done a Runnable that is run on the event dispatch thread once
+	 * 		  the import is over, after the last call to sink
+	 * @return false if there is nothing to import, for instance when no 
+	 * 		   file was chosen. done is not run in that case.
+	 */
+	public boolean importRecurringEvents(Consumer<? super ImportRun> sink, Runnable done);
+	
+	/*
+	 * reportConflicts method.
+	 * ------
+	 * Show the user the imported occurrences that were not added and the 
+	 * events, kept in the calendar, that they are in conflict with.
+	 * 
+	 * @param conflicts an ArrayList of the first Conflicts found while 
+	 * 		  adding the events pushed by importRecurringEvents, at most
+	 * 		  Constants.MAX_REPORTED_CONFLICTS of them
+	 * @param total the number of occurrences that were skipped, including
+	 * 		  the ones that are not in conflicts
+	 */
+	public void reportConflicts(ArrayList<Conflict> conflicts, long total);
+}
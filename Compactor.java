@@ -0,0 +1,264 @@
+package project;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**************************************************************
+ * Compactor class.
+ *
+ * A background thread that keeps the Journal short. Every few
+ * minutes, the records journaled since the last Snapshot are
+ * folded into a new snapshot, which replaces the old one, and
+ * are then cut off the journal.
+ *
+ * The new snapshot is built from the files alone: the old
+ * snapshot is loaded into a separate EventList and the new
+ * records are read from the journal at their positions. The Data is
+ * never locked, so adding an event or showing a period does not
+ * wait for a compaction. The journal is only held while the few
+ * records added during the compaction are moved to its new file.
+ *
+ * The files are replaced in an order that is safe at any time:
+ * the snapshot first, telling the generation and position of the
+ * journal it covers, then the journal. A crash in between leaves
+ * a snapshot whose records are skipped by Journal.getStart.
+ *
+ * A compaction that fails leaves the files as they were and is
+ * tried again next time. Its error is given to a listener, once
+ * until a compaction succeeds again.
+ *************************************************************/
+
+public class Compactor {
+	private File snapshotFile;
+	private Journal journal;
+
+	private ScheduledExecutorService thread;
+
+	private long compactions;
+	private long lastDuration;
+	private long lastReclaimed;
+	private long reclaimed;
+	private Exception failure;
+	private Consumer<Exception> failureListener;
+
+	/*
+	 * Constructor method.
+	 * ------
+	 * Create a Compactor object. It does nothing until it is started.
+	 *
+	 * @param file the File of the snapshot
+	 * @param j the Journal. It must have been replayed.
+	 */
+	public Compactor(File file, Journal j) {
+		snapshotFile = file;
+		journal = j;
+	}
+
+
+	/*
+	 * setFailureListener method.
+	 * ------
+	 * Set who is told that the journal cannot be compacted.
+	 *
+	 * @param l a Consumer that is called, on the thread of the compactor,
+	 * 		  with the error met by a compaction. It is not called again
+	 * 		  until a compaction succeeded.
+	 */
+	public synchronized void setFailureListener(Consumer<Exception> l) {
+		failureListener = l;
+	}
+
+
+	/*
+	 * start method.
+	 * ------
+	 * Compact the journal on a background thread every few minutes.
+	 *
+	 * @param minutes an integer specifies the minutes between two
+	 * 		  compactions
+	 */
+	public synchronized void start(int minutes) {
+		if(thread != null) return;
+
+		thread = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "Journal compactor");
+				t.setDaemon(true);
+				t.setPriority(Thread.MIN_PRIORITY);
+				return t;
+			}
+		});
+
+		thread.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				// An exception thrown out of here would cancel the next compactions
+				try {
+					compact();
+				} catch (IOException | RuntimeException e) {
+					// The files are left as they were; try again next time
+					fail(e);
+				}
+			}
+		}, minutes, minutes, TimeUnit.MINUTES);
+	}
+
+
+	/*
+	 * stop method.
+	 * ------
+	 * Stop compacting and wait for the compaction that is running, if any,
+	 * so that the journal can be closed. It is not interrupted, since it
+	 * would close the journal.
+	 *
+	 * @param seconds an integer specifies the longest time to wait
+	 * @return true if no compaction is running anymore
+	 */
+	public boolean stop(int seconds) {
+		ScheduledExecutorService t;
+
+		// The lock is not held while waiting, since the compaction takes it
+		synchronized(this) {
+			t = thread;
+		}
+
+		if(t == null) return true;
+
+		t.shutdown();
+
+		try {
+			return t.awaitTermination(seconds, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+
+			return false;
+		}
+	}
+
+
+	/*
+	 * compact method.
+	 * ------
+	 * Fold the records journaled since the snapshot into a new snapshot
+	 * and cut them off the journal. Only one thread may call it, once the
+	 * journal was replayed.
+	 *
+	 * @return false if there was nothing to compact
+	 * @throws IOException if a file cannot be read or written
+	 */
+	public boolean compact() throws IOException {
+		long startTime = System.nanoTime();
+
+		Snapshot old = Snapshot.open(snapshotFile);
+
+		journal.flush();
+
+		long generation = journal.getGeneration();
+		long from = journal.getStart(old);
+		long to = journal.getPosition();
+
+		if(to > from) {
+			EventList list = new EventList();
+
+			if(old != null) old.load(list);
+
+			journal.fold(list, from, to);
+
+			Snapshot.write(snapshotFile, list, generation, to);
+		}
+		else if(to < from || from == journal.getStart(null)) {
+			return false;
+		}
+
+		// The records are cut off even if nothing was folded, in case the
+		// last compaction stopped between writing the snapshot and truncating
+		long bytes = journal.truncate(to);
+
+		synchronized(this) {
+			compactions++;
+			lastDuration = System.nanoTime() - startTime;
+			lastReclaimed = bytes;
+			reclaimed += bytes;
+			failure = null;
+		}
+
+		return true;
+	}
+
+
+	/*
+	 * fail method.
+	 * ------
+	 * Keep the error met by a compaction and give it to the listener, unless
+	 * the last compaction failed already.
+	 *
+	 * @param e the error
+	 */
+	private void fail(Exception e) {
+		Consumer<Exception> l;
+
+		synchronized(this) {
+			l = failure == null ? failureListener : null;
+			failure = e;
+		}
+
+		if(l != null) l.accept(e);
+	}
+
+
+	/*
+	 * getCompactionCount method.
+	 * ------
+	 * @return the number of compactions done
+	 */
+	public synchronized long getCompactionCount() {
+		return compactions;
+	}
+
+
+	/*
+	 * getLastDurationMillis method.
+	 * ------
+	 * @return the time, in milliseconds, the last compaction took
+	 */
+	public synchronized double getLastDurationMillis() {
+		return lastDuration/1e6;
+	}
+
+
+	/*
+	 * getLastReclaimedBytes method.
+	 * ------
+	 * @return the number of bytes the last compaction cut off the journal
+	 */
+	public synchronized long getLastReclaimedBytes() {
+		return lastReclaimed;
+	}
+
+
+	/*
+	 * getReclaimedBytes method.
+	 * ------
+	 * @return the number of bytes cut off the journal by all compactions
+	 */
+	public synchronized long getReclaimedBytes() {
+		return reclaimed;
+	}
+
+
+	/*
+	 * getFailure method.
+	 * ------
+	 * @return the error met by the last compaction, or null if it
+	 * 		   succeeded
+	 */
+	public synchronized Exception getFailure() {
+		return failure;
+	}
+
+}
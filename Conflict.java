@@ -0,0 +1,64 @@
+package project;
+
+
+/**************************************************************
+ * Conflict class.
+ * 
+ * Represent an imported occurrence that was not added to the 
+ * calendar because it overlaps in time an event that was kept:
+ * an event already in the calendar, or an occurrence of an 
+ * earlier line of the imported file.
+ *************************************************************/
+
+public class Conflict {
+	private Event kept;
+	private Event dropped;
+	
+	/* 
+	 * Constructor method.
+	 * ------
+	 * Create a Conflict object. 
+	 * 
+	 * @param k the Event that stays in the calendar
+	 * @param d the imported occurrence that is skipped because of k
+	 */
+	public Conflict(Event k, Event d) {
+		kept = k;
+		dropped = d;
+	}
+	
+	
+	/* 
+	 * getKept method.
+	 * ------
+	 * @return the Event that stays in the calendar
+	 */
+	public Event getKept() {
+		return kept;
+	}
+	
+	
+	/* 
+	 * getDropped method.
+	 * ------
+	 * @return the imported occurrence that was not added
+	 */
+	public Event getDropped() {
+		return dropped;
+	}
+	
+	
+	/*
+	 * toString method.
+	 * ------
+	 * @return a string telling which occurrence was not added and which 
+	 * 		   event it is in conflict with
+	 */
+	public String toString() {
+		String dateFormat = Event.MONTH + " " + Event.DAY_OF_MONTH + ", " + Event.YEAR;
+		
+		return dropped.getFormattedTime(dateFormat) + ": "
+				+ dropped.getName() + " (" + dropped.getTimeInterval() + ") was not added, "
+				+ "it conflicts with " + kept.getName() + " (" + kept.getTimeInterval() + ")";
+	}
+}
@@ -0,0 +1,168 @@
+package project;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.function.Consumer;
+
+
+/**************************************************************
+ * ConflictDetector class.
+ *
+ * Find the conflicts of the occurrences of an ImportRun that is
+ * about to be added to an EventList, both with the events already
+ * in the list and with each other.
+ *
+ * Only the days on which a rule of the run occurs are looked at,
+ * one by one: the rules of the run that occur on a day are found
+ * with a RuleIndex, and their occurrences are checked in the order
+ * of the rules, the way the EventList adds them, against the
+ * occupancy of the list and the occurrences kept before them. The
+ * events of the list on a day are only read, through the indexes
+ * of the list, to tell which one an occurrence is in conflict
+ * with. The cost depends on the occurrences of the run and on the
+ * events of the days they conflict on, not on the size of the list.
+ *************************************************************/
+
+public class ConflictDetector {
+
+	/*
+	 * findConflicts method.
+	 * ------
+	 * Find the conflicts of the occurrences of a run. An occurrence is in
+	 * conflict when it overlaps an event in the list or an occurrence of
+	 * an earlier rule of the run that is not in conflict itself; these
+	 * are the occurrences the EventList skips when the rules are added.
+	 *
+	 * @param run an ImportRun whose rules are not in the list yet
+	 * @param list an EventList that the run is checked against
+	 * @return an ArrayList of a Conflict for every occurrence of the run
+	 * 		   in conflict, which is dropped, with the first event it 
+	 * 		   overlaps, which is kept, in chronological order of the days
+	 */
+	public static ArrayList<Conflict> findConflicts(ImportRun run, EventList list) {
+		ArrayList<Conflict> conflicts = new ArrayList<Conflict>();
+		ArrayList<RecurringEvent> rules = run.getRules();
+
+		if(rules.size() == 0) return conflicts;
+
+		RuleIndex index = new RuleIndex();
+		final IdentityHashMap<RecurringEvent, Integer> lines = new IdentityHashMap<RecurringEvent, Integer>();
+
+		for(int i = 0; i < rules.size(); i++) {
+			index.add(rules.get(i));
+			lines.put(rules.get(i), i);
+		}
+
+		// The rules are added in the order of the lines of the file
+		Comparator<RecurringEvent> fileOrder = new Comparator<RecurringEvent>() {
+			@Override
+			public int compare(RecurringEvent a, RecurringEvent b) {
+				return Integer.compare(lines.get(a), lines.get(b));
+			}
+		};
+
+		ArrayList<RecurringEvent> found = new ArrayList<RecurringEvent>();
+		ArrayList<Event> kept = new ArrayList<Event>();
+		final ArrayList<Event> stored = new ArrayList<Event>();
+
+		long to = run.getLastDay().toEpochDay();
+
+		for(long day = run.getFirstDay().toEpochDay(); day < to; day++) {
+			found.clear();
+			index.find(day, found);
+
+			if(found.size() == 0) continue;
+
+			if(found.size() > 1) found.sort(fileOrder);
+
+			LocalDate date = LocalDate.ofEpochDay(day);
+
+			kept.clear();
+			stored.clear();
+
+			boolean storedRead = false;
+
+			for(int i = 0; i < found.size(); i++) {
+				RecurringEvent r = found.get(i);
+
+				if(!r.occursOn(day)) continue;
+
+				Event e = r.getEvent(day);
+				Event other = firstOverlapping(kept, e);
+
+				// The events of the list are only read on the days where the
+				// occupancy of the list tells that one of them is in the way
+				if(!list.isFree(date, r.getTimeInterval())) {
+					if(!storedRead) {
+						list.forEachInRange(date, date.plusDays(1), new Consumer<Event>() {
+							@Override
+							public void accept(Event s) {
+								stored.add(s);
+							}
+						});
+
+						storedRead = true;
+					}
+
+					Event s = firstOverlapping(stored, e);
+
+					if(other == null || (s != null && EventList.startKey(s) < EventList.startKey(other))) {
+						other = s;
+					}
+				}
+
+				if(other == null) {
+					kept.add(insertionPoint(kept, e), e);
+				}
+				else {
+					conflicts.add(new Conflict(other, e));
+				}
+			}
+		}
+
+		return conflicts;
+	}
+
+
+	/*
+	 * firstOverlapping method.
+	 * ------
+	 * @param events the Events of a day in chronological order
+	 * @param e an Event of that day
+	 * @return the earliest of events that e overlaps or starts with, or
+	 * 		   null if there is none
+	 */
+	private static Event firstOverlapping(ArrayList<Event> events, Event e) {
+		for(int i = 0; i < events.size(); i++) {
+			if(EventList.overlaps(events.get(i), e)) return events.get(i);
+		}
+
+		return null;
+	}
+
+
+	/*
+	 * insertionPoint method.
+	 * ------
+	 * @param events the Events of a day in chronological order
+	 * @param e an Event of that day
+	 * @return the index at which e keeps events in chronological order
+	 */
+	private static int insertionPoint(ArrayList<Event> events, Event e) {
+		int from = 0, to = events.size();
+
+		while(from < to) {
+			int mid = (from + to) >>> 1;
+
+			if(EventList.startKey(events.get(mid)) <= EventList.startKey(e)) {
+				from = mid + 1;
+			}
+			else {
+				to = mid;
+			}
+		}
+
+		return from;
+	}
+}
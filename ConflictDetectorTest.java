@@ -0,0 +1,106 @@
+package project;
+import static org.junit.jupiter.api.Assertions.*;
+import static project.EventFixtures.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class ConflictDetectorTest {
+	private static final LocalDate DAY = LocalDate.of(2024, 1, 1);
+	private static final int DAYS = 120;
+
+	@Test
+	void conflictsAreTheOccurrencesABruteForceCalendarDrops() {
+		Random random = new Random(5);
+
+		for(int round = 0; round < 20; round++) {
+			EventList list = new EventList();
+			ArrayList<Event> scheduled = new ArrayList<Event>();
+
+			for(int i = 0; i < 300; i++) {
+				if(i%10 == 0) {
+					RecurringEvent r = randomRule(random, "Stored " + i);
+
+					list.addRecurringEvent(r);
+					r.getEvents(r.getFirstDay(), r.getLastDay(), scheduled);
+				}
+				else {
+					int start = random.nextInt(22*60);
+					Event e = new Event("Event " + i, DAY.plusDays(random.nextInt(DAYS)),
+											new TimeInterval(start, start + 15 + random.nextInt(90)));
+
+					if(list.addEvent(e)) scheduled.add(e);
+				}
+			}
+
+			ImportRun run = new ImportRun();
+			HashSet<String> dropped = new HashSet<String>();
+
+			for(int i = 0; i < 40; i++) {
+				RecurringEvent r = randomRule(random, "Imported " + i);
+				ArrayList<Event> occurrences = new ArrayList<Event>();
+
+				r.getEvents(r.getFirstDay(), r.getLastDay(), occurrences);
+
+				for(Event o : occurrences) {
+					if(isFree(scheduled, o)) {
+						scheduled.add(o);
+					}
+					else {
+						dropped.add(describe(o));
+					}
+				}
+
+				run.addRule(r);
+			}
+
+			ArrayList<Conflict> conflicts = ConflictDetector.findConflicts(run, list);
+			HashSet<String> reported = new HashSet<String>();
+			HashSet<String> kept = new HashSet<String>();
+
+			for(Event e : scheduled) {
+				kept.add(describe(e));
+			}
+
+			for(Conflict c : conflicts) {
+				assertTrue(dropped.contains(describe(c.getDropped())), c.toString());
+				assertTrue(kept.contains(describe(c.getKept())), c.toString());
+				assertTrue(EventList.overlaps(c.getDropped(), c.getKept()), c.toString());
+
+				reported.add(describe(c.getDropped()));
+			}
+
+			assertEquals(dropped.size(), conflicts.size());
+			assertEquals(dropped, reported);
+
+			// The EventList skips the same occurrences when the rules are added
+			HashSet<String> skipped = new HashSet<String>();
+
+			for(RecurringEvent r : run.getRules()) {
+				ArrayList<Event> occurrences = new ArrayList<Event>();
+
+				r.getEvents(r.getFirstDay(), r.getLastDay(), occurrences);
+				list.addRecurringEvent(r);
+
+				for(Event o : occurrences) {
+					if(!r.occursOn(o.getDate().toEpochDay())) skipped.add(describe(o));
+				}
+			}
+
+			assertEquals(dropped, skipped);
+		}
+	}
+
+	private static RecurringEvent randomRule(Random random, String name) {
+		LocalDate from = DAY.plusDays(random.nextInt(DAYS - 20));
+		int start = 60*random.nextInt(22);
+
+		return new RecurringEvent(name, from, from.plusDays(1 + random.nextInt(40)),
+									1 + random.nextInt(127), new TimeInterval(start, start + 30 + random.nextInt(120)));
+	}
+
+}
@@ -1,177 +1,545 @@
-package project;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
-import java.io.FileNotFoundException;
-import java.time.LocalDate;
-import java.util.ArrayList;
-
-import javax.swing.event.ChangeEvent;
-import javax.swing.event.ChangeListener;
-
-/**************************************************************
- * Data class.
- * 
- * This class shares with the Data class the role of data model 
- * of the program. It holds an EventList that stores all events 
- * of the program and an ArrayList of ChangeListeners that will
- * be activated when there's a change in the Data. It also has
- * 2 LocalDate attributes to specifies the period in which all
- * events will be shown in the ViewPanel. It implements 
- * ChangeListener interface to listen to a change in StateMachine
- * and ActionListener interface to listen to a click on CreateButton
- * and FromFileButton.
- * 
- * The Data class is the Model part of the MVC pattern.
- *************************************************************/
-
-public class Data implements ChangeListener, ActionListener {
-	private EventList eventList;
-	private LocalDate firstDay;
-	private LocalDate lastDay;
-	
-	private StateMachine stateMachine;
-	
-	private ArrayList<ChangeListener> listeners;
-	
-	/* 
-	 * Constructor method.
-	 * ------
-	 * Create a Data object. 
-	 * The eventList attribute is initialized. The firstDay and lastDay attributes 
-	 * are set to the currentFirstDay and currentLastDay of the StateMachine. Then,
-	 * the ArrayList of ChangeListeners is initialized.
-	 */
-	public Data(StateMachine sm) { 
-		eventList = new EventList();
-		
-		stateMachine = sm;
-		 
-		firstDay = stateMachine.getFirstDay();
-		lastDay = stateMachine.getLastDay();
-		
-				
-		listeners = new ArrayList<ChangeListener>();
-	}
-	
-
-	/* 
-	 * attach method.
-	 * ------
-	 * Attach a ChangeListener to the model.
-	 * @param l a ChangeListener object to be attached to the model. 
-	 * 			This object will listen if there is a change in data 
-	 *          and act upon it
-	 */
-	public void attach(ChangeListener l) {
-		listeners.add(l);
-	}
-	
-
-	/* 
-	 * addEvent method.
-	 * ------
-	 * Add an event to the data model.
-	 * @param e an Event object to be added to the data
-	 * @return a boolean value. True if the adding success. False otherwise
-	 */
-	public boolean addEvent(Event e) {
-		
-		boolean result = eventList.addEvent(e);
-		
-		
-		return result;
-	}
-	
-
-	/* 
-	 * addEvents method.
-	 * ------
-	 * Add multiple events to the data model.
-	 * @param events an array of Event objects to be added to the data
-	 */
-	private void addEvents(Event[] events) {
-		if(events == null) return;
-		
-		for(int i = 0; i < events.length; i++) {
-			eventList.addEvent(events[i]);
-		}
-			
-	}
-	
-
-	/* 
-	 * getEvent method.
-	 * ------
-	 * Get all events that has been scheduled on the period specifies by 
-	 * startDate and endDate
-	 * @return an arrays that has all events scheduled on the period specifies 
-	 * by startDate and endDate
-	 */
-	public Event[] getEvents(){				
-		return eventList.getEvents(firstDay, lastDay).toArray(new Event[1]);
-	}
-	
-	
-	
-	/* 
-	 * stateChanged method.
-	 * ------
-	 * Notify all listeners whenever there is a change in data
-	 * @param e a ChangeEvent emitted by StateMachine.
-	 */
-	@Override
-	public void stateChanged(ChangeEvent e) {
-		firstDay = stateMachine.getFirstDay();	
-		lastDay = stateMachine.getLastDay();
-		
-		updateListeners();		
-	}
-
-	
-	
-	/* 
-	 * actionPerformed method.
-	 * ------
-	 * Override method when implements ActionListener. 
-	 * It will be called when adding an event or multiple events to
-	 * the data.
-	 * @param e an ActionEvent emitted by either AddOneEvent 
-	 * 			or AddMultipleEvents buttons
-	 */
-	@Override
-	public void actionPerformed(ActionEvent e) {
-		if(e.getSource() instanceof AddOneEvent) {
-			AddOneEvent aoe = (AddOneEvent)e.getSource();
-			Event event = aoe.getEvent(); 
-			
-			if(event != null) {
-				addEvent(event);
-			}
-			
-		}
-		
-		if(e.getSource() instanceof AddMultipleEvents) {
-			AddMultipleEvents aoe = (AddMultipleEvents)e.getSource();
-			try {
-				addEvents(aoe.getEvents());
-			} catch (FileNotFoundException e1) {
-				return;
-			}
-		}
-		
-		updateListeners();
-	}
-	
-	
-
-	/* 
-	 * actionPerformed method.
-	 * ------
-	 * Notify all ChangeListeners when there is a change in the Data
-	 */
-	private void updateListeners() {
-		for(int i = 0; i < listeners.size(); i++) {
-			listeners.get(i).stateChanged(new ChangeEvent(this));
-		}
-	}
-}
+package project;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+
+/**************************************************************
+ * Data class.
+ * 
+ * This class shares with the Data class the role of data model 
+ * of the program. It holds an EventList that stores all events 
+ * of the program and an EventBus on which it publishes the 
+ * events that were added to the Data. The events of the periods
+ * shown recently are kept in a RangeCache. Events are queried from
+ * background threads by the ViewPanel, so every method that reads 
+ * or changes the events is synchronized. 
+ * 
+ * On startup, the events of the last session are loaded in the
+ * background from a Snapshot and the Journal. Meanwhile, the 
+ * periods asked for are read straight from the Snapshot
+ * and adding an event waits for the loading to end, so the 
+ * CreateButton is disabled until then. It implements 
+ * ActionListener interface to listen to a click on CreateButton
+ * and FromFileButton.
+ * 
+ * The Data class is the Model part of the MVC pattern.
+ *************************************************************/
+
+public class Data implements ActionListener {
+	private EventList eventList;
+	private RangeCache rangeCache;
+	
+	private EventBus eventBus;
+	private Journal journal;
+	private Consumer<IOException> journalListener;
+	
+	private Snapshot snapshot;
+	private boolean loading;
+	
+	// Number of times the events were changed, so that a search that is
+	// going on can tell
+	private int changes;
+	
+	/* 
+	 * Constructor method.
+	 * ------
+	 * Create a Data object. 
+	 * The eventList attribute is initialized. The RangeCache keeps 
+	 * Constants.RANGE_CACHE_SIZE periods.
+	 * @param bus the EventBus on which the added events are published
+	 */
+	public Data(EventBus bus) { 
+		this(bus, Constants.RANGE_CACHE_SIZE);
+	}
+	
+	
+	/* 
+	 * Constructor method.
+	 * ------
+	 * Create a Data object whose RangeCache keeps a given number of periods. 
+	 * It should be larger than the number of periods prefetched around the
+	 * current one, or the prefetched periods evict each other.
+	 * @param bus the EventBus on which the added events are published
+	 * @param cacheSize an integer specifies the maximum number of periods 
+	 * 		  kept in the RangeCache
+	 */
+	public Data(EventBus bus, int cacheSize) { 
+		eventList = new EventList();
+		rangeCache = new RangeCache(cacheSize);
+		
+		eventBus = bus;
+	}
+	
+
+	/* 
+	 * setJournal method.
+	 * ------
+	 * Attach a Journal to the model. Everything added to the model from now
+	 * on is appended to it.
+	 * @param j a Journal, or null to stop journaling
+	 */
+	public synchronized void setJournal(Journal j) {
+		journal = j;
+	}
+	
+
+	/* 
+	 * setJournalListener method.
+	 * ------
+	 * Set who is told that the Journal cannot be written. 
+	 * @param l a Consumer that is called, on the thread adding the events,
+	 * 		  with the error met while journaling them. It is not called 
+	 * 		  again until the journal was written successfully.
+	 */
+	public synchronized void setJournalListener(Consumer<IOException> l) {
+		journalListener = l;
+	}
+	
+
+	/* 
+	 * load method.
+	 * ------
+	 * Restore the events of the last session on a background thread: the
+	 * events of a Snapshot are put into a new EventList, then the records
+	 * of the Journal written after the snapshot are replayed into it. The 
+	 * new EventList then replaces the current one, the Journal is attached
+	 * and a DataChangeEvent of every day is published. Until then, the 
+	 * events are read from the snapshot.
+	 * @param s a Snapshot, or null to replay the whole journal
+	 * @param j a Journal, or null
+	 * @param done a Consumer that is called on the background thread once 
+	 * 		  the loading is over, with null or the error met while reading 
+	 * 		  the snapshot or the journal. The events read before the error
+	 * 		  are kept, but the journal is not attached.
+	 */
+	public void load(final Snapshot s, final Journal j, final Consumer<Exception> done) {
+		synchronized(this) {
+			snapshot = s;
+			loading = true;
+		}
+		
+		Thread loader = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				EventList list = new EventList();
+				Exception failure = null;
+				boolean loaded = false;
+				
+				try {
+					if(s != null) s.load(list);
+					
+					if(j != null) j.replay(list, j.getStart(s));
+					
+					loaded = true;
+				} catch (IOException | RuntimeException e) {
+					failure = e;
+				} finally {
+					// Whatever happened, nobody may be left waiting for the loading
+					synchronized(Data.this) {
+						eventList = list;
+						snapshot = null;
+						loading = false;
+						changes++;
+						
+						if(loaded) journal = j;
+						
+						rangeCache.invalidate(LocalDate.MIN, LocalDate.MAX);
+						
+						Data.this.notifyAll();
+					}
+				}
+				
+				eventBus.publish(EventBus.EVENTS_ADDED, 
+								new DataChangeEvent(Data.this, LocalDate.MIN, LocalDate.MAX, null));
+				
+				done.accept(failure);
+			}
+		}, "Data loader");
+		
+		loader.setDaemon(true);
+		loader.start();
+	}
+	
+
+	/* 
+	 * isLoading method.
+	 * ------
+	 * @return true while the events of the last session are being loaded
+	 */
+	public synchronized boolean isLoading() {
+		return loading;
+	}
+	
+
+	/* 
+	 * addEvent method.
+	 * ------
+	 * Add an event to the data model. It waits for the loading to end, so 
+	 * it must not be called on the event dispatch thread until isLoading
+	 * returns false.
+	 * @param e an Event object to be added to the data
+	 * @return a boolean value. True if the adding success. False otherwise
+	 */
+	public synchronized boolean addEvent(Event e) {
+		awaitLoaded();
+		
+		boolean result = eventList.addEvent(e);
+		
+		if(result) {
+			rangeCache.invalidate(e.getDate(), e.getDate().plusDays(1));
+			changes++;
+			
+			journal(e);
+		}
+		
+		return result;
+	}
+	
+
+	/* 
+	 * addImportRun method.
+	 * ------
+	 * Add the recurring events of a part of an import to the data model. 
+	 * Before they are added, their occurrences are checked against each 
+	 * other and against the data on the days they fall on, including the 
+	 * recurring events added before, so that every conflict can be 
+	 * reported. The occurrences in conflict are then skipped by the 
+	 * EventList. The Data is locked for this part only, so it should not
+	 * have more than Constants.IMPORT_BATCH_RULES rules.
+	 * @param run an ImportRun whose RecurringEvents are added to the data
+	 * @param conflicts an ArrayList that a Conflict is appended to for 
+	 * 		  every occurrence of the run that is skipped, until it holds
+	 * 		  Constants.MAX_REPORTED_CONFLICTS of them
+	 * @param skipped an array whose only element is increased by the 
+	 * 		  number of occurrences of the run that are skipped
+	 * @return the number of occurrences of the run that were added
+	 */
+	private synchronized long addImportRun(ImportRun run, ArrayList<Conflict> conflicts, long[] skipped) {
+		ArrayList<RecurringEvent> rules = run.getRules();
+		
+		if(rules.size() == 0) return 0;
+		
+		awaitLoaded();
+		
+		ArrayList<Conflict> found = ConflictDetector.findConflicts(run, eventList);
+		
+		for(int i = 0; i < found.size() && conflicts.size() < Constants.MAX_REPORTED_CONFLICTS; i++) {
+			conflicts.add(found.get(i));
+		}
+		
+		skipped[0] += found.size();
+		
+		long scheduled = 0;
+		
+		for(int i = 0; i < rules.size(); i++) {
+			int added = eventList.addRecurringEvent(rules.get(i));
+			
+			// A rule whose occurrences were all skipped is not kept
+			if(added > 0) journal(rules.get(i));
+			
+			scheduled += added;
+		}
+		
+		rangeCache.invalidate(run.getFirstDay(), run.getLastDay());
+		changes++;
+		
+		return scheduled;
+	}
+	
+	
+	/* 
+	 * getEvents method.
+	 * ------
+	 * Get the events of a period from the RangeCache, querying the EventList 
+	 * and caching the result when the period is not cached yet. While the 
+	 * model is loading, the events are read from the Snapshot instead. It
+	 * is safe to call from a background thread.
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @return an array of the events of the period. It is shared with the
+	 * 		   cache and must not be modified.
+	 */
+	public synchronized Event[] getEvents(LocalDate from, LocalDate to) {
+		if(loading) {
+			ArrayList<Event> evs = new ArrayList<Event>();
+			
+			if(snapshot != null) snapshot.getEvents(from, to, evs);
+			
+			return evs.toArray(new Event[0]);
+		}
+		
+		Event[] evs = rangeCache.get(from, to);
+		
+		if(evs == null) {
+			evs = eventList.getEvents(from, to).toArray(new Event[0]);
+			rangeCache.put(from, to, evs);
+		}
+		
+		return evs;
+	}
+	
+	
+	
+	/* 
+	 * prefetch method.
+	 * ------
+	 * Query the events of a period and put them in the RangeCache, unless 
+	 * the period is cached already. Unlike getEvents, it does not count as
+	 * a hit or a miss of the cache. Nothing is prefetched while the model 
+	 * is loading. It is safe to call from a background thread.
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 */
+	public synchronized void prefetch(LocalDate from, LocalDate to) {
+		if(loading || rangeCache.contains(from, to)) return;
+		
+		rangeCache.put(from, to, eventList.getEvents(from, to).toArray(new Event[0]));
+	}
+	
+	
+	/* 
+	 * getCacheHits method.
+	 * ------
+	 * @return the number of period lookups served from the RangeCache
+	 */
+	public synchronized long getCacheHits() {
+		return rangeCache.getHits();
+	}
+	
+	
+	/* 
+	 * getCacheMisses method.
+	 * ------
+	 * @return the number of period lookups that had to query the EventList
+	 */
+	public synchronized long getCacheMisses() {
+		return rangeCache.getMisses();
+	}
+	
+	
+	/* 
+	 * isFree method.
+	 * ------
+	 * Check whether nothing is scheduled in a period of a day. It waits for
+	 * the loading to end, like addEvent.
+	 * @param date a LocalDate specifies the day
+	 * @param t a TimeInterval specifies the period of the day
+	 * @return true if an event could be added in that period
+	 */
+	public synchronized boolean isFree(LocalDate date, TimeInterval t) {
+		awaitLoaded();
+		
+		return eventList.isFree(date, t);
+	}
+	
+	
+	/* 
+	 * findFreeSlots method.
+	 * ------
+	 * Search for free slots in the data. For instance, the 45-minute gaps
+	 * between 9:00 and 17:00 on weekdays are found with
+	 * findFreeSlots(from, to, "MTWHF", new TimeInterval("9:00", "17:00"), 45).
+	 * @param from a LocalDate specifies the first day of the search
+	 * @param to a LocalDate specifies the day after the last day of the search
+	 * @param dOWs a string contains the days of week to search on
+	 * @param window a TimeInterval specifies the part of each day to search in
+	 * @param min an integer specifies the minimum length of a slot in minutes
+	 * @return an Iterator that finds the free slots one by one in chronological
+	 * 		   order. It reads the data lazily, holding the lock of the Data
+	 * 		   while it searches, so it can be used from any thread. Its
+	 * 		   hasNext and next throw a ConcurrentModificationException 
+	 * 		   once events were added to the data.
+	 */
+	public synchronized Iterator<FreeSlot> findFreeSlots(LocalDate from, LocalDate to, String dOWs,
+												TimeInterval window, int min) {
+		awaitLoaded();
+		
+		final FreeSlotSearch search = eventList.findFreeSlots(from, to, dOWs, window, min);
+		final int expectedChanges = changes;
+		
+		return new Iterator<FreeSlot>() {
+			@Override
+			public boolean hasNext() {
+				synchronized(Data.this) {
+					checkChanges();
+					
+					return search.hasNext();
+				}
+			}
+			
+			@Override
+			public FreeSlot next() {
+				synchronized(Data.this) {
+					checkChanges();
+					
+					return search.next();
+				}
+			}
+			
+			private void checkChanges() {
+				if(changes != expectedChanges) {
+					throw new ConcurrentModificationException("Events were added during the search");
+				}
+			}
+		};
+	}
+	
+	
+	
+	/* 
+	 * journal method.
+	 * ------
+	 * Append an event that was added to the Journal, if there is one, and
+	 * report the error met while writing it, if any. The event stays in 
+	 * the Data and the Journal keeps it to write it again.
+	 * @param e an Event that was added
+	 */
+	private void journal(Event e) {
+		if(journal == null) return;
+		
+		try {
+			journal.appendEvent(e);
+		} catch (IOException ex) {
+			if(journalListener != null) journalListener.accept(ex);
+		}
+	}
+	
+	
+	/* 
+	 * journal method.
+	 * ------
+	 * Append a recurring event that was added to the Journal, the way 
+	 * journal(Event) does.
+	 * @param r a RecurringEvent that was added
+	 */
+	private void journal(RecurringEvent r) {
+		if(journal == null) return;
+		
+		try {
+			journal.appendRecurringEvent(r);
+		} catch (IOException ex) {
+			if(journalListener != null) journalListener.accept(ex);
+		}
+	}
+	
+	
+	
+	/* 
+	 * awaitLoaded method.
+	 * ------
+	 * Wait until the events of the last session are loaded. It must be 
+	 * called holding the lock of the Data.
+	 */
+	private void awaitLoaded() {
+		boolean interrupted = false;
+		
+		while(loading) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		
+		if(interrupted) Thread.currentThread().interrupt();
+	}
+	
+	
+	
+	/* 
+	 * actionPerformed method.
+	 * ------
+	 * Override method when implements ActionListener. 
+	 * It will be called when adding an event or multiple events to
+	 * the data. A DataChangeEvent telling which days were changed is then
+	 * published on the EVENTS_ADDED topic. Multiple events are imported in
+	 * the background, in parts of at most Constants.IMPORT_BATCH_RULES 
+	 * rules. The Data is unlocked between two parts, so that the views 
+	 * can read it, and the days imported so far are published at most 
+	 * every Constants.IMPORT_REFRESH_MILLIS, so that they show up 
+	 * progressively.
+	 * @param e an ActionEvent emitted by either AddOneEvent 
+	 * 			or AddMultipleEvents buttons
+	 */
+	@Override
+	public void actionPerformed(ActionEvent e) {
+		if(e.getSource() instanceof AddOneEvent) {
+			AddOneEvent aoe = (AddOneEvent)e.getSource();
+			Event event = aoe.getEvent(); 
+			
+			if(event != null && addEvent(event)) {
+				eventBus.publish(EventBus.EVENTS_ADDED, new DataChangeEvent(this, event.getDate(), 
+									event.getDate().plusDays(1), new Event[] { event }));
+			}
+			
+		}
+		
+		if(e.getSource() instanceof AddMultipleEvents) {
+			final AddMultipleEvents aoe = (AddMultipleEvents)e.getSource();
+			
+			final ArrayList<Conflict> conflicts = new ArrayList<Conflict>();
+			final long[] skipped = new long[1];
+			final LocalDate[] period = new LocalDate[2];
+			
+			aoe.importRecurringEvents(new Consumer<ImportRun>() {
+				private long lastPublish = System.nanoTime();
+				
+				@Override
+				public void accept(ImportRun run) {
+					if(run.getRules().size() == 0) return;
+					
+					long scheduled = 0;
+					
+					for(ImportRun part : run.split(Constants.IMPORT_BATCH_RULES)) {
+						scheduled += addImportRun(part, conflicts, skipped);
+						
+						if(period[0] == null || part.getFirstDay().isBefore(period[0])) period[0] = part.getFirstDay();
+						if(period[1] == null || part.getLastDay().isAfter(period[1])) period[1] = part.getLastDay();
+						
+						// The days added so far become visible at a throttled rate
+						if(System.nanoTime() - lastPublish >= Constants.IMPORT_REFRESH_MILLIS * 1000000L) {
+							publishImported(period);
+							lastPublish = System.nanoTime();
+						}
+					}
+					
+					run.setScheduledCount(scheduled);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					publishImported(period);
+					
+					if(skipped[0] > 0) aoe.reportConflicts(conflicts, skipped[0]);
+				}
+			});
+		}
+	}
+	
+	
+	/* 
+	 * publishImported method.
+	 * ------
+	 * Publish a DataChangeEvent for the days changed by an import since the
+	 * last time this method was called. It can be called from the thread 
+	 * of the import since the EventBus delivers it on the event dispatch 
+	 * thread.
+	 * @param period an array of two LocalDates, the first day changed and 
+	 * 		  the day after the last day changed, or nulls if nothing was
+	 * 		  changed. They are reset to null.
+	 */
+	private void publishImported(LocalDate[] period) {
+		if(period[0] == null) return;
+		
+		eventBus.publish(EventBus.EVENTS_ADDED, new DataChangeEvent(this, period[0], period[1], null));
+		
+		period[0] = null;
+		period[1] = null;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package project;
+import java.time.LocalDate;
+
+import javax.swing.event.ChangeEvent;
+
+/**************************************************************
+ * DataChangeEvent class.
+ * 
+ * A ChangeEvent published by the Data on the EVENTS_ADDED topic 
+ * of the EventBus when events are added to it.
+ * It tells the ChangeListeners which days were changed and, when
+ * only a few single events were added, which events they are, so
+ * that a view can update the affected days instead of reloading
+ * everything.
+ *************************************************************/
+
+public class DataChangeEvent extends ChangeEvent {
+	private static final long serialVersionUID = -3400427342981270584L;
+	
+	private LocalDate firstDay;
+	private LocalDate lastDay;
+	private Event[] addedEvents;
+	
+	/* 
+	 * Constructor method.
+	 * ------
+	 * Create a DataChangeEvent object. 
+	 * 
+	 * @param source the Data that emits the event
+	 * @param from a LocalDate specifies the first changed day
+	 * @param to a LocalDate specifies the day after the last changed day
+	 * @param added an array of the Events that were added, or null if 
+	 * 		  the changed days have to be queried again (for instance 
+	 * 		  when recurring events were added)
+	 */
+	public DataChangeEvent(Object source, LocalDate from, LocalDate to, Event[] added) {
+		super(source);
+		
+		firstDay = from;
+		lastDay = to;
+		addedEvents = added;
+	}
+	
+	
+	/* 
+	 * getFirstDay method.
+	 * ------
+	 * @return the first changed day
+	 */
+	public LocalDate getFirstDay() {
+		return firstDay;
+	}
+	
+	
+	/* 
+	 * getLastDay method.
+	 * ------
+	 * @return the day after the last changed day
+	 */
+	public LocalDate getLastDay() {
+		return lastDay;
+	}
+	
+	
+	/* 
+	 * getAddedEvents method.
+	 * ------
+	 * @return an array of the Events that were added, or null if the 
+	 * 		   changed days have to be queried again
+	 */
+	public Event[] getAddedEvents() {
+		return addedEvents;
+	}
+	
+	
+	/* 
+	 * merge method.
+	 * ------
+	 * Combine two DataChangeEvents into one that covers the days of both.
+	 * 
+	 * @param a a DataChangeEvent
+	 * @param b a DataChangeEvent emitted after a
+	 * @return a DataChangeEvent whose changed days cover the days of a and b,
+	 * 		   with the added events of both, or null added events if one of
+	 * 		   them has to be queried again
+	 */
+	public static DataChangeEvent merge(DataChangeEvent a, DataChangeEvent b) {
+		LocalDate from = a.firstDay.isBefore(b.firstDay) ? a.firstDay : b.firstDay;
+		LocalDate to = a.lastDay.isAfter(b.lastDay) ? a.lastDay : b.lastDay;
+		
+		Event[] added = null;
+		
+		if(a.addedEvents != null && b.addedEvents != null) {
+			added = new Event[a.addedEvents.length + b.addedEvents.length];
+			
+			System.arraycopy(a.addedEvents, 0, added, 0, a.addedEvents.length);
+			System.arraycopy(b.addedEvents, 0, added, a.addedEvents.length, b.addedEvents.length);
+		}
+		
+		return new DataChangeEvent(b.getSource(), from, to, added);
+	}
+}
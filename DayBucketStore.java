@@ -0,0 +1,114 @@
+package project;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+
+/**************************************************************
+ * DayBucketStore class.
+ * Per-day routing of the queries of EventList. It maps an epoch
+ * day to a small array holding the events of that day, stored
+ * events and occurrences of recurring events alike, sorted by
+ * their starting time. The buckets are built from the EventStore
+ * the first time a day is queried and dropped when an event is
+ * added on their day, so a day that is shown again costs a single
+ * map lookup instead of creating its Event objects again.
+ *
+ * The buckets are held through soft references: the garbage
+ * collector may drop them when memory is short, and the columns
+ * of the EventStore stay the only copy of the events that must
+ * be kept.
+ *
+ * Functionality:
+ * 		- Return all events of a day with a single map lookup.
+ * 		- Drop the buckets of a day or of a period.
+ *************************************************************/
+
+public class DayBucketStore {
+	static final Event[] EMPTY = new Event[0];
+
+	private HashMap<Long, SoftReference<Event[]>> buckets;
+
+	/*
+	 * Constructor method.
+	 * ------
+	 * Create an empty DayBucketStore object.
+	 */
+	public DayBucketStore() {
+		buckets = new HashMap<Long, SoftReference<Event[]>>();
+	}
+
+
+	/*
+	 * getDay method.
+	 * ------
+	 * @param day an epoch day
+	 * @return the bucket of that day sorted by starting time, or null if
+	 * 		   it was not built or was dropped. The array must not be
+	 * 		   modified.
+     */
+	Event[] getDay(long day) {
+		SoftReference<Event[]> ref = buckets.get(day);
+
+		if(ref == null) return null;
+
+		Event[] bucket = ref.get();
+
+		if(bucket == null) buckets.remove(day);
+
+		return bucket;
+	}
+
+
+	/*
+	 * putDay method.
+	 * ------
+	 * Keep the bucket of a day.
+	 *
+	 * @param day an epoch day
+	 * @param bucket all events of that day sorted by starting time
+     */
+	void putDay(long day, Event[] bucket) {
+		buckets.put(day, new SoftReference<Event[]>(bucket.length == 0 ? EMPTY : bucket));
+	}
+
+
+	/*
+	 * invalidate method.
+	 * ------
+	 * Drop the bucket of a day on which an event was added.
+	 *
+	 * @param day an epoch day
+     */
+	public void invalidate(long day) {
+		buckets.remove(day);
+	}
+
+
+	/*
+	 * invalidate method.
+	 * ------
+	 * Drop the buckets of the days of a period, looking at the days of the
+	 * period or at the buckets, whichever are fewer.
+	 *
+	 * @param from the epoch day of the first day of the period
+	 * @param to the epoch day of the day after the last day of the period
+     */
+	public void invalidate(long from, long to) {
+		if(to - from <= buckets.size()) {
+			for(long day = from; day < to; day++) {
+				buckets.remove(day);
+			}
+
+			return;
+		}
+
+		Iterator<Long> days = buckets.keySet().iterator();
+
+		while(days.hasNext()) {
+			long day = days.next();
+
+			if(day >= from && day < to) days.remove();
+		}
+	}
+
+}
@@ -0,0 +1,129 @@
+package project;
+import java.util.HashMap;
+
+/**************************************************************
+ * DayOccupancy class.
+ * Auxiliary index of EventList. It keeps, for every epoch day that
+ * has events, a bitmap of the 1440 minutes of the day in which a 
+ * bit is set when an event or an occurrence of a recurring event
+ * is scheduled during that minute.
+ * 
+ * Functionality: 
+ * 		- Check whether a period of a day is free with a few 
+ * 		  word-level AND operations.
+ * 		- Mark the minutes of an event or of a period as busy.
+ *************************************************************/
+
+public class DayOccupancy {
+	private static final int WORDS_PER_DAY = (EventList.MINUTES_PER_DAY + 63)/64;
+	
+	private HashMap<Long, long[]> days;
+	
+	/* 
+	 * Constructor method.
+	 * ------
+	 * Create an empty DayOccupancy object. 
+	 */
+	public DayOccupancy() {
+		days = new HashMap<Long, long[]>();
+	}
+	
+	
+	/* 
+	 * isFree method.
+	 * ------
+	 * Check whether nothing is scheduled in a period of a day. An empty 
+	 * period is checked as its first minute, so that two events starting 
+	 * at the same minute are always in conflict.
+	 * 
+	 * @param day an epoch day
+	 * @param start an integer specifies the minutes from midnight to the 
+	 * 		  start of the period
+	 * @param end an integer specifies the minutes from midnight to the 
+	 * 		  end of the period
+	 * @return true if no minute of the period is busy
+	 */
+	public boolean isFree(long day, int start, int end) {
+		long[] bits = days.get(day);
+		
+		if(bits == null) return true;
+		
+		int from = Math.min(clamp(start), EventList.MINUTES_PER_DAY - 1);
+		int to = Math.max(clamp(end), from + 1);
+		
+		for(int w = from >>> 6; w <= (to - 1) >>> 6; w++) {
+			if((bits[w] & mask(w, from, to)) != 0) return false;
+		}
+		
+		return true;
+	}
+	
+	
+	/* 
+	 * mark method.
+	 * ------
+	 * Mark the minutes of an event as busy.
+	 * 
+	 * @param e an Event that has been added to the EventList
+	 */
+	public void mark(Event e) {
+		mark(e.getDate().toEpochDay(), e.getStartMinute(), e.getEndMinute());
+	}
+	
+	
+	/* 
+	 * mark method.
+	 * ------
+	 * Mark the minutes of a period of a day as busy.
+	 * 
+	 * @param day an epoch day
+	 * @param start an integer specifies the minutes from midnight to the 
+	 * 		  start of the period
+	 * @param end an integer specifies the minutes from midnight to the 
+	 * 		  end of the period
+	 */
+	public void mark(long day, int start, int end) {
+		long[] bits = days.get(day);
+		
+		if(bits == null) {
+			bits = new long[WORDS_PER_DAY];
+			days.put(day, bits);
+		}
+		
+		int from = Math.min(clamp(start), EventList.MINUTES_PER_DAY - 1);
+		int to = Math.max(clamp(end), from + 1);
+		
+		for(int w = from >>> 6; w <= (to - 1) >>> 6; w++) {
+			bits[w] |= mask(w, from, to);
+		}
+	}
+	
+	
+	/* 
+	 * mask method.
+	 * ------
+	 * @param w the index of a word of a day bitmap
+	 * @param from the first minute of a period
+	 * @param to the minute after the last minute of the period
+	 * @return the bits of word w that belong to the period
+	 */
+	private static long mask(int w, int from, int to) {
+		int lo = Math.max(from - (w << 6), 0);
+		int hi = Math.min(to - (w << 6), 64);
+		
+		long upper = (hi == 64) ? -1L : (1L << hi) - 1;
+		
+		return upper & (-1L << lo);
+	}
+	
+	
+	/* 
+	 * clamp method.
+	 * ------
+	 * @param minute minutes from midnight
+	 * @return the minute bounded to the minutes of a day
+	 */
+	private static int clamp(int minute) {
+		return Math.min(Math.max(minute, 0), EventList.MINUTES_PER_DAY);
+	}
+}
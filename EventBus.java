@@ -0,0 +1,130 @@
+package project;
+import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+
+/**************************************************************
+ * EventBus class.
+ * 
+ * Deliver the changes of the models (StateMachine and Data) to 
+ * the components of the program. A component subscribes to the 
+ * topics it cares about and receives a typed ChangeEvent for 
+ * each of them:
+ * 		- VIEW_CHANGED: a ViewChangeEvent, when the current view of
+ * 		  the StateMachine changed.
+ * 		- PERIOD_CHANGED: a PeriodChangeEvent, when the current 
+ * 		  period of the StateMachine changed.
+ * 		- EVENTS_ADDED: a DataChangeEvent, when events were added 
+ * 		  to the Data.
+ * 
+ * Events are not delivered when they are published but once per 
+ * tick of the event dispatch thread. All events published on the
+ * same topic during a tick are coalesced into one: the latest view
+ * or period, or the union of the added events. 
+ * 
+ * Components may subscribe from any thread, even while events
+ * are being delivered: each topic keeps its subscribers in a
+ * CopyOnWriteArrayList, so a delivery visits the subscribers of
+ * the moment it started.
+ *************************************************************/
+
+public class EventBus {
+	public static final int VIEW_CHANGED = 0;
+	public static final int PERIOD_CHANGED = 1;
+	public static final int EVENTS_ADDED = 2;
+	
+	private static final int TOPICS = 3;
+	
+	private ArrayList<CopyOnWriteArrayList<ChangeListener>> subscribers;
+	private ChangeEvent[] pending;
+	private boolean flushScheduled;
+	
+	/* 
+	 * Constructor method.
+	 * ------
+	 * Create an EventBus object with no subscriber. 
+	 */
+	public EventBus() {
+		subscribers = new ArrayList<CopyOnWriteArrayList<ChangeListener>>();
+		
+		for(int i = 0; i < TOPICS; i++) {
+			subscribers.add(new CopyOnWriteArrayList<ChangeListener>());
+		}
+		
+		pending = new ChangeEvent[TOPICS];
+		flushScheduled = false;
+	}
+	
+	
+	/* 
+	 * subscribe method.
+	 * ------
+	 * Subscribe a ChangeListener to a topic.
+	 * 
+	 * @param topic one of VIEW_CHANGED, PERIOD_CHANGED, and EVENTS_ADDED
+	 * @param l a ChangeListener that will receive the events of the topic
+	 */
+	public void subscribe(int topic, ChangeListener l) {
+		subscribers.get(topic).add(l);
+	}
+	
+	
+	/* 
+	 * publish method.
+	 * ------
+	 * Publish an event on a topic. It is coalesced with the events already
+	 * published on the same topic during this tick and will be delivered 
+	 * on the event dispatch thread.
+	 * 
+	 * @param topic one of VIEW_CHANGED, PERIOD_CHANGED, and EVENTS_ADDED
+	 * @param e the ChangeEvent of the topic
+	 */
+	public synchronized void publish(int topic, ChangeEvent e) {
+		if(topic == EVENTS_ADDED && pending[topic] != null) {
+			pending[topic] = DataChangeEvent.merge((DataChangeEvent)pending[topic], 
+													(DataChangeEvent)e);
+		}
+		else {
+			pending[topic] = e;
+		}
+		
+		if(flushScheduled) return;
+		
+		flushScheduled = true;
+		
+		SwingUtilities.invokeLater(new Runnable() {
+			@Override
+			public void run() {
+				flush();
+			}
+		});
+	}
+	
+	
+	/* 
+	 * flush method.
+	 * ------
+	 * Deliver the pending event of every topic to its subscribers, in the
+	 * order VIEW_CHANGED, PERIOD_CHANGED, EVENTS_ADDED.
+	 */
+	private void flush() {
+		ChangeEvent[] events;
+		
+		synchronized(this) {
+			events = pending;
+			pending = new ChangeEvent[TOPICS];
+			flushScheduled = false;
+		}
+		
+		for(int topic = 0; topic < TOPICS; topic++) {
+			if(events[topic] == null) continue;
+			
+			for(ChangeListener l : subscribers.get(topic)) {
+				l.stateChanged(events[topic]);
+			}
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package project;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**************************************************************
+ * EventFixtures class.
+ *
+ * Helpers shared by the tests: a brute-force calendar kept as a
+ * plain list of the events scheduled, and a description of events
+ * by their fields, so that lists of different Event objects can
+ * be compared with assertEquals.
+ *************************************************************/
+
+final class EventFixtures {
+
+	private EventFixtures() {
+	}
+
+
+	/*
+	 * isFree method.
+	 * ------
+	 * @param scheduled the Events of a brute-force calendar
+	 * @param e an Event
+	 * @return true if e overlaps none of scheduled
+	 */
+	static boolean isFree(ArrayList<Event> scheduled, Event e) {
+		for(Event s : scheduled) {
+			if(EventList.overlaps(s, e)) return false;
+		}
+
+		return true;
+	}
+
+
+	/*
+	 * eventsIn method.
+	 * ------
+	 * @param scheduled the Events of a brute-force calendar
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @return the events of scheduled in that period, in chronological order
+	 */
+	static ArrayList<Event> eventsIn(ArrayList<Event> scheduled, LocalDate from, LocalDate to) {
+		ArrayList<Event> result = new ArrayList<Event>();
+
+		for(Event e : scheduled) {
+			if(!e.getDate().isBefore(from) && e.getDate().isBefore(to)) result.add(e);
+		}
+
+		result.sort(EventList.CHRONOLOGICAL_ORDER);
+
+		return result;
+	}
+
+
+	/*
+	 * describe method.
+	 * ------
+	 * @param e an Event
+	 * @return the name, day and minutes of e
+	 */
+	static String describe(Event e) {
+		return e.getName() + " " + e.getDate() + " " + e.getStartMinute() + "-" + e.getEndMinute();
+	}
+
+
+	/*
+	 * describe method.
+	 * ------
+	 * @param events a Collection of Events
+	 * @return the descriptions of the events, in the same order
+	 */
+	static ArrayList<String> describe(Collection<Event> events) {
+		ArrayList<String> result = new ArrayList<String>();
+
+		for(Event e : events) {
+			result.add(describe(e));
+		}
+
+		return result;
+	}
+
+}
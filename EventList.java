@@ -1,120 +1,473 @@
-package project;
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Iterator;
-
-/**************************************************************
- * EventList class.
- * Main data structure for the program. An aggregated ArrayList of 
- * Event 
- * 
- * Functionality: 
- * 		- Return a series of Event that happens during a specific 
- * 		  period of time.
- * 		- Add an event in chronologically order.
- *************************************************************/
-
-public class EventList {
-	private ArrayList<Event> list;
-	
-	/* 
-	 * Constructor method.
-	 * ------
-	 * Create an empty EventList object. 
-	 */
-	public EventList() {
-		list = new ArrayList<Event>();
-	}
-	
-	
-	/* 
-	 * addEvent method.
-	 * ------
-	 * Add event method.  
-	 * 
-	 * @param e an Event to be added to the list in chronologically order
-	 * @return a boolean value specifies whether the adding process is succeed 
-	 * 		   or not. Adding failed when the event e is conflict with one of 
-	 * 		   the events in the list.
-     */
-	public boolean addEvent(Event e) {
-		if(list.size() == 0) {
-			list.add(e);
-			return true;
-		}
-		
-		
-		Iterator<Event> it = list.iterator();
-		
-		Event currE = it.next();
-		
-		int i = 0;
-		
-		while(currE.compareTo(e) < 0 && it.hasNext()) {
-			currE = it.next();
-			i++;
-		}
-		
-		if(currE.compareTo(e) == 0) 
-			return false;
-		
-		if(currE.compareTo(e) > 0) {
-			list.add(i, e);
-			return true;
-		}
-		
-		
-		list.add(e);
-		
-		
-		return true;
-		
-	}
-	
-
-	/* 
-	 * getEvents method.
-	 * ------
-	 * Get a series of events in a specified period of time.  
-	 * 
-	 * @param from a LocalDate specifies the first day of the period
-	 * @param to a LocalDate specifies the last day of the period
-	 * @return an ArrayList contains all events that are scheduled from 
-	 * 		   the Date from to the Date to, inclusively.
-     */
-	public ArrayList<Event> getEvents(LocalDate from, LocalDate to){
-		ArrayList<Event> resultArr = new ArrayList<Event>();
-		
-		if(list.size() != 0 && list.get(0) != null) {
-			Event fromE = new Event("From Event", from, new TimeInterval("00:00", "00:00"));
-			Event toE = new Event("To Event", to, new TimeInterval("00:00", "00:00"));
-			
-			
-			Iterator<Event> it = list.iterator();
-			
-			Event currE = it.next();
-					 
-			while(currE.compareTo(fromE) < 0 && it.hasNext()) {
-				currE = it.next();
-			}
-
-
-			
-			while(currE.compareTo(toE) < 0 && it.hasNext()) {
-				resultArr.add(currE);
-				currE = it.next();
-			}
-
-			
-			if(currE.compareTo(toE) < 0 && currE.compareTo(fromE) >= 0) resultArr.add(currE); 
-			
-		}
-		
-		
-		
-		return resultArr;
-	}
-	
-	
-
-}
+package project;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.Consumer;
+
+/**************************************************************
+ * EventList class.
+ * Main data structure for the program. The events are kept in
+ * chronological order in an EventStore, which holds them as
+ * columns of primitive values and creates Event objects only for
+ * the events that are queried. They are ordered by the minute
+ * each event starts (epoch day * 1440 + start minute). Weekly
+ * events are kept as RecurringEvent rules and are only expanded
+ * into Events for the period that is asked for; a RuleIndex
+ * finds the rules of that period. The events of the days of a
+ * short period are kept in a DayBucketStore until an event is
+ * added on their day, so the days of the views are only built
+ * once. A
+ * DayOccupancy bitmap of the
+ * busy minutes of every day, where the events and the occurrences
+ * of the rules are marked, is used to check new events and new
+ * occurrences for conflicts.
+ *
+ * Functionality:
+ * 		- Return a series of Event that happens during a specific
+ * 		  period of time in O(log n + k), or with one lookup per day
+ * 		  for periods up to SHORT_RANGE_DAYS long whose days have
+ * 		  been built already.
+ * 		- Add an event in chronologically order in O(log n), plus
+ * 		  the events of a block of the EventStore to move.
+ * 		- Add a recurring event, skipping its occurrences that are
+ * 		  in conflict with the events already in the list.
+ * 		- Search for free slots, one day at a time.
+ * 		- Visit the events of a period without copying them into
+ * 		  a collection.
+ *************************************************************/
+
+public class EventList {
+	static final int MINUTES_PER_DAY = 24*60;
+	static final int SHORT_RANGE_DAYS = 7;
+
+	private EventStore store;
+	private DayBucketStore buckets;
+	private DayOccupancy occupancy;
+	private ArrayList<RecurringEvent> rules;
+	private RuleIndex ruleIndex;
+
+	/*
+	 * Order events by the day they are scheduled on, then by the minute
+	 * they start.
+	 */
+	static final Comparator<Event> CHRONOLOGICAL_ORDER = new Comparator<Event>() {
+		@Override
+		public int compare(Event a, Event b) {
+			int byDate = a.getDate().compareTo(b.getDate());
+
+			if(byDate != 0) return byDate;
+
+			return Integer.compare(a.getStartMinute(), b.getStartMinute());
+		}
+	};
+
+	/*
+	 * Constructor method.
+	 * ------
+	 * Create an empty EventList object.
+	 */
+	public EventList() {
+		store = new EventStore();
+		buckets = new DayBucketStore();
+		occupancy = new DayOccupancy();
+		rules = new ArrayList<RecurringEvent>();
+		ruleIndex = new RuleIndex();
+	}
+
+
+	/*
+	 * addEvent method.
+	 * ------
+	 * Add event method. Two events starting at the same minute are always
+	 * considered in conflict.
+	 *
+	 * @param e an Event to be added to the list in chronologically order
+	 * @return a boolean value specifies whether the adding process is succeed
+	 * 		   or not. Adding failed when the event e is conflict with one of
+	 * 		   the events in the list.
+     */
+	public boolean addEvent(Event e) {
+		if(!isFree(e))
+			return false;
+
+		insert(e);
+
+		return true;
+
+	}
+
+
+	/*
+	 * addRecurringEvent method.
+	 * ------
+	 * Add a recurring event to the list. Its occurrences that are in
+	 * conflict with an event or with an occurrence of another recurring
+	 * event already in the list are skipped. Each occurrence is checked
+	 * and marked in the DayOccupancy bitmap of its day, so the other
+	 * rules are not looked at. A rule whose occurrences are all skipped
+	 * is dropped, since it has nothing to show.
+	 *
+	 * @param r a RecurringEvent to be added to the list
+	 * @return the number of occurrences of r that were scheduled
+     */
+	public int addRecurringEvent(RecurringEvent r) {
+		int start = r.getTimeInterval().getStartMinute();
+		int end = r.getTimeInterval().getEndMinute();
+
+		int scheduled = 0;
+
+		for(long day = r.getFirstEpochDay(); day < r.getLastEpochDay(); day++) {
+			if(!r.occursOn(day)) continue;
+
+			if(!occupancy.isFree(day, start, end)) {
+				r.skip(day);
+			}
+			else {
+				occupancy.mark(day, start, end);
+				scheduled++;
+			}
+		}
+
+		if(scheduled > 0) {
+			rules.add(r);
+			ruleIndex.add(r);
+			buckets.invalidate(r.getFirstEpochDay(), r.getLastEpochDay());
+		}
+
+		return scheduled;
+	}
+
+
+	/*
+	 * getEvents method.
+	 * ------
+	 * Get a series of events in a specified period of time.
+	 *
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @return an ArrayList contains all events that are scheduled from
+	 * 		   the Date from (inclusively) to the Date to (exclusively).
+     */
+	public ArrayList<Event> getEvents(LocalDate from, LocalDate to){
+		ArrayList<Event> resultArr = new ArrayList<Event>();
+
+		getEvents(from, to, resultArr);
+
+		return resultArr;
+	}
+
+
+	/*
+	 * getEvents method.
+	 * ------
+	 * Get a series of events in a specified period of time. The days of a
+	 * period up to SHORT_RANGE_DAYS long are read from the DayBucketStore
+	 * and built when they are missing; a longer period is read straight
+	 * from the EventStore and its buckets are not built.
+	 *
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @param result an ArrayList that all events that are scheduled from
+	 * 		   the Date from (inclusively) to the Date to (exclusively) are
+	 * 		   appended to in chronologically order.
+     */
+	public void getEvents(LocalDate from, LocalDate to, ArrayList<Event> result){
+		if(!from.isBefore(to)) return;
+
+		ArrayList<RecurringEvent> found = new ArrayList<RecurringEvent>();
+
+		if(to.toEpochDay() - from.toEpochDay() > SHORT_RANGE_DAYS) {
+			int first = result.size();
+
+			store.getEvents(from, to, result);
+
+			int stored = result.size();
+
+			ruleIndex.find(from.toEpochDay(), to.toEpochDay(), found);
+
+			for(int i = 0; i < found.size(); i++) {
+				found.get(i).getEvents(from, to, result);
+			}
+
+			if(result.size() > stored) result.subList(first, result.size()).sort(CHRONOLOGICAL_ORDER);
+
+			return;
+		}
+
+		ArrayList<Event> events = null;
+
+		for(long day = from.toEpochDay(); day < to.toEpochDay(); day++) {
+			Event[] bucket = buckets.getDay(day);
+
+			if(bucket == null) {
+				if(events == null) events = new ArrayList<Event>();
+
+				events.clear();
+				getDay(day, events, found);
+
+				bucket = events.toArray(DayBucketStore.EMPTY);
+				buckets.putDay(day, bucket);
+			}
+
+			for(int i = 0; i < bucket.length; i++) {
+				result.add(bucket[i]);
+			}
+		}
+	}
+
+
+	/*
+	 * forEachInRange method.
+	 * ------
+	 * Visit the events of a specified period of time in chronologically
+	 * order, reading them straight from the EventStore. The occurrences of
+	 * the recurring events are merged in day by day. The buckets of the
+	 * days are neither read nor kept, so walking a long period does not
+	 * fill the DayBucketStore.
+	 *
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @param visitor a Consumer that is called once for every event scheduled
+	 * 		   from the Date from (inclusively) to the Date to (exclusively).
+     */
+	public void forEachInRange(LocalDate from, LocalDate to, Consumer<? super Event> visitor) {
+		if(!from.isBefore(to)) return;
+
+		if(ruleIndex.size() == 0) {
+			store.forEach(from, to, visitor);
+			return;
+		}
+
+		ArrayList<Event> events = new ArrayList<Event>();
+		ArrayList<RecurringEvent> found = new ArrayList<RecurringEvent>();
+
+		for(long day = from.toEpochDay(); day < to.toEpochDay(); day++) {
+			events.clear();
+			getDay(day, events, found);
+
+			for(int i = 0; i < events.size(); i++) {
+				visitor.accept(events.get(i));
+			}
+		}
+	}
+
+
+	/*
+	 * getDay method.
+	 * ------
+	 * Read the events of a day from the EventStore and merge in the
+	 * occurrences of the recurring events of the day.
+	 *
+	 * @param day an epoch day
+	 * @param result an ArrayList that the events of that day are appended
+	 * 		   to in chronologically order
+	 * @param found an ArrayList that is cleared and used to find the
+	 * 		   recurring events of the day
+     */
+	private void getDay(long day, ArrayList<Event> result, ArrayList<RecurringEvent> found) {
+		LocalDate date = LocalDate.ofEpochDay(day);
+		int first = result.size();
+
+		store.getEvents(date, date.plusDays(1), result);
+
+		if(ruleIndex.size() == 0) return;
+
+		int stored = result.size();
+
+		found.clear();
+		ruleIndex.find(day, found);
+
+		for(int i = 0; i < found.size(); i++) {
+			RecurringEvent r = found.get(i);
+
+			if(r.occursOn(day)) result.add(r.getEvent(day));
+		}
+
+		if(result.size() > stored && result.size() - first > 1) {
+			result.subList(first, result.size()).sort(CHRONOLOGICAL_ORDER);
+		}
+	}
+
+
+	/*
+	 * findFreeSlots method.
+	 * ------
+	 * Search for free slots in a specified period of time.
+	 *
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @param dOWs a string contains the days of week to search on ("MTWHF"
+	 * 			   for weekdays)
+	 * @param window a TimeInterval specifies the part of each day to search in
+	 * @param min an integer specifies the minimum length of a slot in minutes
+	 * @return a FreeSlotSearch that returns the free slots one by one in
+	 * 		   chronological order as they are found.
+     */
+	public FreeSlotSearch findFreeSlots(LocalDate from, LocalDate to, String dOWs,
+											TimeInterval window, int min) {
+		return new FreeSlotSearch(this, from, to, dOWs, window, min);
+	}
+
+
+	/*
+	 * isFree method.
+	 * ------
+	 * Check whether nothing is scheduled in a period of a day with the
+	 * DayOccupancy bitmap of the day.
+	 *
+	 * @param date a LocalDate specifies the day
+	 * @param t a TimeInterval specifies the period of the day
+	 * @return true if an event could be scheduled in that period
+     */
+	public boolean isFree(LocalDate date, TimeInterval t) {
+		return occupancy.isFree(date.toEpochDay(), t.getStartMinute(), t.getEndMinute());
+	}
+
+
+	/*
+	 * isFree method.
+	 * ------
+	 * @param e an Event
+	 * @return true if e is not in conflict with any event of the list
+     */
+	private boolean isFree(Event e) {
+		return occupancy.isFree(e.getDate().toEpochDay(), e.getStartMinute(), e.getEndMinute());
+	}
+
+
+	/*
+	 * restoreEvent method.
+	 * ------
+	 * Put an event that was in the list before, read from a Snapshot, back
+	 * into the list without checking it for conflicts.
+	 *
+	 * @param e an Event
+     */
+	void restoreEvent(Event e) {
+		insert(e);
+	}
+
+
+	/*
+	 * restoreRecurringEvent method.
+	 * ------
+	 * Put a recurring event that was in the list before, read from a
+	 * Snapshot, back into the list. Its skipped occurrences must have been
+	 * restored already; the others are marked as busy.
+	 *
+	 * @param r a RecurringEvent
+     */
+	void restoreRecurringEvent(RecurringEvent r) {
+		int start = r.getTimeInterval().getStartMinute();
+		int end = r.getTimeInterval().getEndMinute();
+
+		int scheduled = 0;
+
+		for(long day = r.getFirstEpochDay(); day < r.getLastEpochDay(); day++) {
+			if(r.occursOn(day)) {
+				occupancy.mark(day, start, end);
+				scheduled++;
+			}
+		}
+
+		if(scheduled > 0) {
+			rules.add(r);
+			ruleIndex.add(r);
+			buckets.invalidate(r.getFirstEpochDay(), r.getLastEpochDay());
+		}
+	}
+
+
+	/*
+	 * getAllEvents method.
+	 * ------
+	 * @return all events of the list, recurring events excepted, in
+	 * 		   chronological order. The events are created as the collection
+	 * 		   is iterated, and it must not be used once the list changes.
+     */
+	Collection<Event> getAllEvents() {
+		return store.getAll();
+	}
+
+
+	/*
+	 * getRecurringEvents method.
+	 * ------
+	 * @return the recurring events of the list that have an occurrence
+	 * 		   scheduled, in the order they were added. The list must not
+	 * 		   be modified.
+     */
+	ArrayList<RecurringEvent> getRecurringEvents() {
+		return rules;
+	}
+
+
+	/*
+	 * insert method.
+	 * ------
+	 * Put an event that has been checked for conflicts into the store
+	 * and the DayOccupancy bitmap, and drop the bucket of its day.
+	 *
+	 * @param e an Event
+     */
+	private void insert(Event e) {
+		store.add(e);
+		buckets.invalidate(e.getDate().toEpochDay());
+		occupancy.mark(e);
+	}
+
+
+	/*
+	 * overlaps method.
+	 * ------
+	 * Check whether two events are in conflict, using the same rule as
+	 * addEvent: they overlap in time or start at the same minute.
+	 *
+	 * @param a an Event
+	 * @param b an Event
+	 * @return true if a and b cannot both be in the list
+     */
+	static boolean overlaps(Event a, Event b) {
+		long aStart = startKey(a), bStart = startKey(b);
+
+		return aStart == bStart || (aStart < endKey(b) && bStart < endKey(a));
+	}
+
+
+	/*
+	 * startKey method.
+	 * ------
+	 * @param e an Event
+	 * @return the index key of the minute the event starts
+     */
+	static long startKey(Event e) {
+		return toKey(e.getDate(), e.getStartMinute());
+	}
+
+
+	/*
+	 * endKey method.
+	 * ------
+	 * @param e an Event
+	 * @return the index key of the minute the event ends
+     */
+	static long endKey(Event e) {
+		return toKey(e.getDate(), e.getEndMinute());
+	}
+
+
+	/*
+	 * toKey method.
+	 * ------
+	 * Compute the index key of a point in time.
+	 *
+	 * @param date a LocalDate specifies the day
+	 * @param minute an integer specifies the minutes from midnight
+	 * @return a long value that orders points in time chronologically
+     */
+	static long toKey(LocalDate date, int minute) {
+		return date.toEpochDay()*MINUTES_PER_DAY + minute;
+	}
+
+}
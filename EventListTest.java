@@ -0,0 +1,113 @@
+package project;
+import static org.junit.jupiter.api.Assertions.*;
+import static project.EventFixtures.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class EventListTest {
+	private static final LocalDate DAY = LocalDate.of(2024, 1, 1);
+	private static final int DAYS = 400;
+
+	@Test
+	void eventsAndRulesMatchABruteForceCalendar() {
+		Random random = new Random(3);
+		EventList list = new EventList();
+		ArrayList<Event> scheduled = new ArrayList<Event>();
+
+		for(int i = 0; i < 4000; i++) {
+			if(i%20 == 0) {
+				LocalDate from = DAY.plusDays(random.nextInt(DAYS - 40));
+				int start = 60*random.nextInt(23);
+				RecurringEvent r = new RecurringEvent("Rule " + i, from, from.plusDays(1 + random.nextInt(90)),
+											1 + random.nextInt(127), new TimeInterval(start, start + 60));
+
+				ArrayList<Event> occurrences = new ArrayList<Event>();
+				int expected = 0;
+
+				r.getEvents(r.getFirstDay(), r.getLastDay(), occurrences);
+
+				for(Event o : occurrences) {
+					if(isFree(scheduled, o)) {
+						scheduled.add(o);
+						expected++;
+					}
+				}
+
+				assertEquals(expected, list.addRecurringEvent(r));
+			}
+			else {
+				int start = random.nextInt(22*60);
+				Event e = new Event("Event " + i, DAY.plusDays(random.nextInt(DAYS)),
+										new TimeInterval(start, start + 15 + random.nextInt(90)));
+				boolean free = isFree(scheduled, e);
+
+				assertEquals(free, list.addEvent(e));
+
+				if(free) scheduled.add(e);
+			}
+		}
+
+		for(int d = 0; d < DAYS; d += 7) {
+			LocalDate from = DAY.plusDays(d), to = from.plusDays(1 + d%31);
+
+			assertEquals(describe(eventsIn(scheduled, from, to)), describe(list.getEvents(from, to)));
+
+			final ArrayList<Event> visited = new ArrayList<Event>();
+
+			list.forEachInRange(from, to, new java.util.function.Consumer<Event>() {
+				@Override
+				public void accept(Event e) {
+					visited.add(e);
+				}
+			});
+
+			assertEquals(describe(eventsIn(scheduled, from, to)), describe(visited));
+		}
+
+		for(int q = 0; q < 2000; q++) {
+			int start = random.nextInt(23*60);
+			Event probe = new Event("Probe", DAY.plusDays(random.nextInt(DAYS)), new TimeInterval(start, start + 30));
+
+			assertEquals(isFree(scheduled, probe),
+							list.isFree(probe.getDate(), new TimeInterval(start, start + 30)));
+		}
+	}
+
+	@Test
+	void queriedDaysShowTheEventsAddedLater() {
+		EventList list = new EventList();
+		LocalDate to = DAY.plusDays(7);
+
+		list.addEvent(new Event("Before", DAY.plusDays(2), new TimeInterval(9*60, 10*60)));
+
+		assertEquals(1, list.getEvents(DAY, to).size());
+
+		list.addEvent(new Event("After", DAY.plusDays(2), new TimeInterval(8*60, 9*60)));
+		list.addRecurringEvent(new RecurringEvent("Rule", DAY, to, 127, new TimeInterval(12*60, 13*60)));
+
+		ArrayList<Event> events = list.getEvents(DAY, to);
+
+		assertEquals(9, events.size());
+		assertEquals("After", events.get(2).getName());
+		assertEquals("Before", events.get(3).getName());
+		assertEquals("Rule", events.get(4).getName());
+		assertSame(events.get(3), list.getEvents(DAY.plusDays(2), DAY.plusDays(3)).get(1));
+	}
+
+	@Test
+	void rulesWithEveryOccurrenceSkippedAreDropped() {
+		EventList list = new EventList();
+		LocalDate to = DAY.plusDays(14);
+
+		assertEquals(14, list.addRecurringEvent(new RecurringEvent("Kept", DAY, to, 127, new TimeInterval(9*60, 10*60))));
+		assertEquals(0, list.addRecurringEvent(new RecurringEvent("Dropped", DAY, to, 127, new TimeInterval(9*60, 9*60 + 30))));
+
+		assertEquals(1, list.getRecurringEvents().size());
+		assertEquals("Kept", list.getRecurringEvents().get(0).getName());
+	}
+
+}
@@ -0,0 +1,380 @@
+package project;
+import java.time.LocalDate;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**************************************************************
+ * EventStore class.
+ * Storage of EventList. The events are not kept as objects but
+ * as parallel columns of primitive values: the epoch day, the
+ * start and end minutes and the id of the name of every event
+ * in the NameDictionary. An event takes 12
+ * bytes instead of the 250 or so of an Event with its LocalDate,
+ * TimeInterval and strings. Event objects are only created, as
+ * transient views, for the events that are queried.
+ *
+ * The columns are cut into blocks of at most BLOCK_SIZE events
+ * in chronological order, so that adding an event only moves the
+ * events of one block. A full block is split in two, unless the
+ * event goes after every other one; a new block is then started,
+ * so that events added in chronological order fill the blocks.
+ *
+ * Functionality:
+ * 		- Add an event in O(log n + BLOCK_SIZE).
+ * 		- Visit the events of a period in O(log n + k).
+ *************************************************************/
+
+public class EventStore {
+	static final int BLOCK_SIZE = 512;
+
+	private ArrayList<Block> blocks;
+	private int size;
+
+	/*
+	 * Constructor method.
+	 * ------
+	 * Create an empty EventStore object.
+	 */
+	public EventStore() {
+		blocks = new ArrayList<Block>();
+		size = 0;
+	}
+
+
+	/*
+	 * add method.
+	 * ------
+	 * Store an event. The event is expected to have been checked for
+	 * conflicts by EventList already; only its values are kept.
+	 *
+	 * @param e an Event to be stored
+	 */
+	public void add(Event e) {
+		long key = EventList.startKey(e);
+
+		if(blocks.size() == 0) blocks.add(new Block());
+
+		int b = findBlock(key);
+		Block block = blocks.get(b);
+		int i = block.lowerBound(key);
+
+		if(block.size == BLOCK_SIZE) {
+			if(b == blocks.size() - 1 && i == block.size) {
+				block = new Block();
+				blocks.add(block);
+				i = 0;
+			}
+			else {
+				Block right = block.split();
+
+				blocks.add(b + 1, right);
+
+				if(i > block.size) {
+					i -= block.size;
+					block = right;
+				}
+			}
+		}
+
+		block.insert(i, (int)e.getDate().toEpochDay(), e.getStartMinute(), e.getEndMinute(),
+						NameDictionary.getId(e.getName()));
+		size++;
+	}
+
+
+	/*
+	 * size method.
+	 * ------
+	 * @return the number of events stored
+	 */
+	public int size() {
+		return size;
+	}
+
+
+	/*
+	 * getEvents method.
+	 * ------
+	 * Get the events of a specified period of time.
+	 *
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @param result an ArrayList that new Event objects of the events
+	 * 		   scheduled from the Date from (inclusively) to the Date to
+	 * 		   (exclusively) are appended to in chronological order.
+     */
+	public void getEvents(LocalDate from, LocalDate to, ArrayList<Event> result) {
+		if(blocks.size() == 0 || !from.isBefore(to)) return;
+
+		long fromKey = EventList.toKey(from, 0);
+		long toKey = EventList.toKey(to, 0);
+
+		int b = findBlock(fromKey);
+		int i = blocks.get(b).lowerBound(fromKey);
+		int last = findBlock(toKey);
+		int end = blocks.get(last).lowerBound(toKey);
+
+		// The result is grown once, to the number of events of the period
+		int count = end - i;
+
+		for(int k = b; k < last; k++) {
+			count += blocks.get(k).size;
+		}
+
+		result.ensureCapacity(result.size() + count);
+
+		int day = Integer.MIN_VALUE;
+		LocalDate date = null;
+
+		for(; b <= last; b++, i = 0) {
+			Block block = blocks.get(b);
+			int blockEnd = b == last ? end : block.size;
+
+			for(; i < blockEnd; i++) {
+				if(block.days[i] != day) {
+					day = block.days[i];
+					date = LocalDate.ofEpochDay(day);
+				}
+
+				result.add(block.getEvent(i, date));
+			}
+		}
+	}
+
+
+	/*
+	 * forEach method.
+	 * ------
+	 * Visit the events of a specified period of time in chronological
+	 * order.
+	 *
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @param visitor a Consumer that is called with a new Event object for
+	 * 		   every event scheduled from the Date from (inclusively) to the
+	 * 		   Date to (exclusively).
+     */
+	public void forEach(LocalDate from, LocalDate to, Consumer<? super Event> visitor) {
+		if(blocks.size() == 0 || !from.isBefore(to)) return;
+
+		long fromKey = EventList.toKey(from, 0);
+		long toKey = EventList.toKey(to, 0);
+
+		int b = findBlock(fromKey);
+		int i = blocks.get(b).lowerBound(fromKey);
+
+		// The events of a day share the LocalDate of the day
+		int day = Integer.MIN_VALUE;
+		LocalDate date = null;
+
+		for(; b < blocks.size(); b++, i = 0) {
+			Block block = blocks.get(b);
+
+			for(; i < block.size; i++) {
+				if(block.key(i) >= toKey) return;
+
+				if(block.days[i] != day) {
+					day = block.days[i];
+					date = LocalDate.ofEpochDay(day);
+				}
+
+				visitor.accept(block.getEvent(i, date));
+			}
+		}
+	}
+
+
+	/*
+	 * getAll method.
+	 * ------
+	 * @return a view of all events stored, in chronological order. Its
+	 * 		   iterator creates new Event objects, and it must not be used
+	 * 		   once an event is added.
+     */
+	public Collection<Event> getAll() {
+		return new AbstractCollection<Event>() {
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public Iterator<Event> iterator() {
+				return new Iterator<Event>() {
+					private int b = 0;
+					private int i = 0;
+
+					@Override
+					public boolean hasNext() {
+						while(b < blocks.size() && i == blocks.get(b).size) {
+							b++;
+							i = 0;
+						}
+
+						return b < blocks.size();
+					}
+
+					@Override
+					public Event next() {
+						if(!hasNext()) throw new NoSuchElementException();
+
+						Block block = blocks.get(b);
+
+						return block.getEvent(i, LocalDate.ofEpochDay(block.days[i++]));
+					}
+				};
+			}
+		};
+	}
+
+
+	/*
+	 * findBlock method.
+	 * ------
+	 * @param key the index key of a point in time
+	 * @return the index of the last block whose first event does not start
+	 * 		   after key, or 0 if there is none
+     */
+	private int findBlock(long key) {
+		int from = 0, to = blocks.size() - 1;
+
+		while(from < to) {
+			int mid = (from + to + 1) >>> 1;
+
+			if(blocks.get(mid).key(0) <= key) {
+				from = mid;
+			}
+			else {
+				to = mid - 1;
+			}
+		}
+
+		return from;
+	}
+
+
+	/*
+	 * Block class.
+	 * ------
+	 * The columns of at most BLOCK_SIZE events in chronological order.
+	 */
+	private class Block {
+		private int[] days;
+		private short[] starts;
+		private short[] ends;
+		private int[] nameIdColumn;
+		private int size;
+
+		/*
+		 * Constructor method.
+		 * ------
+		 * Create an empty Block object.
+		 */
+		Block() {
+			days = new int[BLOCK_SIZE];
+			starts = new short[BLOCK_SIZE];
+			ends = new short[BLOCK_SIZE];
+			nameIdColumn = new int[BLOCK_SIZE];
+			size = 0;
+		}
+
+
+		/*
+		 * key method.
+		 * ------
+		 * @param i the index of an event of the block
+		 * @return the index key of the minute the event starts
+		 */
+		long key(int i) {
+			return (long)days[i]*EventList.MINUTES_PER_DAY + starts[i];
+		}
+
+
+		/*
+		 * lowerBound method.
+		 * ------
+		 * @param key the index key of a point in time
+		 * @return the index of the first event of the block that does not
+		 * 		   start before key, or size if there is none
+		 */
+		int lowerBound(long key) {
+			int from = 0, to = size;
+
+			while(from < to) {
+				int mid = (from + to) >>> 1;
+
+				if(key(mid) < key) {
+					from = mid + 1;
+				}
+				else {
+					to = mid;
+				}
+			}
+
+			return from;
+		}
+
+
+		/*
+		 * insert method.
+		 * ------
+		 * Insert an event at an index of a block that is not full.
+		 */
+		void insert(int i, int day, int start, int end, int nameId) {
+			int moved = size - i;
+
+			System.arraycopy(days, i, days, i + 1, moved);
+			System.arraycopy(starts, i, starts, i + 1, moved);
+			System.arraycopy(ends, i, ends, i + 1, moved);
+			System.arraycopy(nameIdColumn, i, nameIdColumn, i + 1, moved);
+
+			days[i] = day;
+			starts[i] = (short)start;
+			ends[i] = (short)end;
+			nameIdColumn[i] = nameId;
+
+			size++;
+		}
+
+
+		/*
+		 * split method.
+		 * ------
+		 * Move the second half of the events of the block to a new block.
+		 *
+		 * @return the new block
+		 */
+		Block split() {
+			Block right = new Block();
+			int half = size/2;
+
+			right.size = size - half;
+
+			System.arraycopy(days, half, right.days, 0, right.size);
+			System.arraycopy(starts, half, right.starts, 0, right.size);
+			System.arraycopy(ends, half, right.ends, 0, right.size);
+			System.arraycopy(nameIdColumn, half, right.nameIdColumn, 0, right.size);
+
+			size = half;
+
+			return right;
+		}
+
+
+		/*
+		 * getEvent method.
+		 * ------
+		 * @param i the index of an event of the block
+		 * @param date the LocalDate of the day of that event
+		 * @return a new Event object of that event
+		 */
+		Event getEvent(int i, LocalDate date) {
+			return new Event(nameIdColumn[i], date, new TimeInterval(starts[i], ends[i]));
+		}
+	}
+
+}
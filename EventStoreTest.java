@@ -0,0 +1,66 @@
+package project;
+import static org.junit.jupiter.api.Assertions.*;
+import static project.EventFixtures.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+class EventStoreTest {
+	private static final LocalDate DAY = LocalDate.of(2024, 1, 1);
+	private static final int DAYS = 30;
+
+	@Test
+	void rangesAcrossBlocksMatchABruteForceList() {
+		Random random = new Random(7);
+		EventStore store = new EventStore();
+		ArrayList<Event> added = new ArrayList<Event>();
+		HashSet<Long> keys = new HashSet<Long>();
+
+		// Random events split full blocks; the events added after them in
+		// chronological order start new blocks
+		for(int i = 0; i < 12*EventStore.BLOCK_SIZE; i++) {
+			boolean inOrder = i >= 8*EventStore.BLOCK_SIZE;
+			int day = inOrder ? DAYS + i/200 : random.nextInt(DAYS);
+			int start = inOrder ? (i%200)*7 : random.nextInt(23*60);
+			Event e = new Event("Event " + i, DAY.plusDays(day), new TimeInterval(start, start + 5));
+
+			if(!keys.add(EventList.startKey(e))) continue;
+
+			store.add(e);
+			added.add(e);
+		}
+
+		added.sort(EventList.CHRONOLOGICAL_ORDER);
+
+		assertEquals(added.size(), store.size());
+		assertEquals(describe(added), describe(new ArrayList<Event>(store.getAll())));
+
+		for(int q = 0; q < 500; q++) {
+			LocalDate from = DAY.plusDays(random.nextInt(DAYS + 40) - 5);
+			LocalDate to = from.plusDays(random.nextInt(q%10 == 0 ? 60 : 8));
+
+			ArrayList<Event> events = new ArrayList<Event>();
+
+			store.getEvents(from, to, events);
+
+			assertEquals(describe(eventsIn(added, from, to)), describe(events));
+
+			final ArrayList<Event> visited = new ArrayList<Event>();
+
+			store.forEach(from, to, new Consumer<Event>() {
+				@Override
+				public void accept(Event e) {
+					visited.add(e);
+				}
+			});
+
+			assertEquals(describe(events), describe(visited));
+		}
+	}
+
+}
@@ -0,0 +1,69 @@
+package project;
+import java.time.LocalDate;
+
+
+/**************************************************************
+ * FreeSlot class.
+ * 
+ * Represent a period of time on a day when nothing is scheduled
+ * on the calendar.
+ *************************************************************/
+
+public class FreeSlot {
+	private LocalDate date;
+	private TimeInterval timeInterval;
+	
+	/* 
+	 * Constructor method.
+	 * ------
+	 * Create a FreeSlot object. 
+	 * 
+	 * @param d a LocalDate specifies the day of the free slot
+	 * @param t a TimeInterval specifies when the free slot starts and ends
+	 */
+	public FreeSlot(LocalDate d, TimeInterval t) {
+		date = d;
+		timeInterval = t;
+	}
+	
+	
+	/* 
+	 * getDate method.
+	 * ------
+	 * @return the day of the free slot
+	 */
+	public LocalDate getDate() {
+		return date;
+	}
+	
+	
+	/* 
+	 * getTimeInterval method.
+	 * ------
+	 * @return the time interval of the free slot
+	 */
+	public TimeInterval getTimeInterval() {
+		return timeInterval;
+	}
+	
+	
+	/* 
+	 * getLength method.
+	 * ------
+	 * @return the length of the free slot in minutes
+	 */
+	public int getLength() {
+		return timeInterval.getEndMinute() - timeInterval.getStartMinute();
+	}
+	
+	
+	/*
+	 * toString method.
+	 * ------
+	 * @return a string represents this FreeSlot in the format 
+	 * 		   yyyy-mm-dd hh:mm - hh:mm
+	 */
+	public String toString() {
+		return date + " " + timeInterval;
+	}
+}
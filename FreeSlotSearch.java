@@ -0,0 +1,140 @@
+package project;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**************************************************************
+ * FreeSlotSearch class.
+ * 
+ * An Iterator over the free slots of an EventList during a period
+ * of time. Only the slots inside a daily time window, on some days
+ * of the week, and at least a given number of minutes long are 
+ * returned.
+ * 
+ * The search is lazy: the events of a day are only looked up when
+ * the slots of the previous days have all been returned, so asking
+ * for the first free slot of a whole year only reads the days up 
+ * to that slot.
+ *************************************************************/
+
+public class FreeSlotSearch implements Iterator<FreeSlot> {
+	private EventList eventList;
+	
+	private long currentDay;
+	private long lastDay;
+	private int daysOfWeek;
+	private int windowStart;
+	private int windowEnd;
+	private int minLength;
+	
+	private ArrayList<FreeSlot> pending;
+	private ArrayList<Event> dayEvents;
+	
+	/* 
+	 * Constructor method.
+	 * ------
+	 * Create a FreeSlotSearch object. 
+	 * 
+	 * @param list the EventList to search in
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @param dOWs a string contains the days of week to search on, one
+	 * 			   letter of RecurringEvent.DAYS_OF_WEEK ("MTWHFAS") per day
+	 * @param window a TimeInterval specifies the part of each day to search in
+	 * @param min an integer specifies the minimum length of a slot in minutes
+	 */
+	public FreeSlotSearch(EventList list, LocalDate from, LocalDate to, 
+							String dOWs, TimeInterval window, int min) {
+		eventList = list;
+		
+		currentDay = from.toEpochDay();
+		lastDay = to.toEpochDay();
+		
+		daysOfWeek = 0;
+		
+		for(int i = 0; i < dOWs.length(); i++) {
+			int dOW = RecurringEvent.DAYS_OF_WEEK.indexOf(dOWs.charAt(i));
+			
+			if(dOW >= 0) daysOfWeek |= 1 << dOW;
+		}
+		
+		windowStart = window.getStartMinute();
+		windowEnd = window.getEndMinute();
+		minLength = Math.max(min, 1);
+		
+		pending = new ArrayList<FreeSlot>();
+		dayEvents = new ArrayList<Event>();
+	}
+	
+	
+	/* 
+	 * hasNext method.
+	 * ------
+	 * Search the following days until a free slot is found or the end of
+	 * the period is reached.
+	 * 
+	 * @return true if there is another free slot in the period
+	 */
+	@Override
+	public boolean hasNext() {
+		while(pending.size() == 0 && currentDay < lastDay) {
+			if((daysOfWeek & (1 << RecurringEvent.dayOfWeek(currentDay))) != 0) {
+				searchDay(LocalDate.ofEpochDay(currentDay));
+			}
+			
+			currentDay++;
+		}
+		
+		return pending.size() > 0;
+	}
+	
+	
+	/* 
+	 * next method.
+	 * ------
+	 * @return the next free slot in chronological order
+	 */
+	@Override
+	public FreeSlot next() {
+		if(!hasNext()) throw new NoSuchElementException();
+		
+		return pending.remove(0);
+	}
+	
+	
+	/* 
+	 * searchDay method.
+	 * ------
+	 * Walk the events of a day in chronological order and keep the gaps 
+	 * between them that are inside the window and long enough.
+	 * 
+	 * @param date a LocalDate specifies the day to search
+	 */
+	private void searchDay(LocalDate date) {
+		dayEvents.clear();
+		
+		eventList.getEvents(date, date.plusDays(1), dayEvents);
+		
+		int cursor = windowStart;
+		
+		for(int i = 0; i < dayEvents.size() && cursor < windowEnd; i++) {
+			Event e = dayEvents.get(i);
+			
+			if(e.getEndMinute() <= cursor) continue;
+			
+			int gapEnd = Math.min(e.getStartMinute(), windowEnd);
+			
+			if(gapEnd - cursor >= minLength) {
+				pending.add(new FreeSlot(date, new TimeInterval(cursor, gapEnd)));
+			}
+			
+			cursor = Math.max(cursor, e.getEndMinute());
+		}
+		
+		if(windowEnd - cursor >= minLength) {
+			pending.add(new FreeSlot(date, new TimeInterval(cursor, windowEnd)));
+		}
+	}
+}
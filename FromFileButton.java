@@ -1,90 +1,254 @@
-package project;
-import java.awt.event.ActionListener;
-import java.io.File;
-import java.io.FileNotFoundException;
-
-import javax.swing.JButton;
-import javax.swing.JFileChooser;
-
-/*************************************************************
- * FromFileButton class.
- * 
- * A JButton that implements AddMultipleEvents interface. 
- * This button is the Control part of the MVC pattern.
- * 
- * Functionality: 
- * 		When this button is pressed, the program will show a 
- * 		dialog prompting user to choose a text file. Then, it 
- * 		will use the FromFileToEvent class to parse all content
- * 		of this text file into an array of Events.
- *************************************************************/
-public class FromFileButton extends JButton implements AddMultipleEvents{
-
-	private static final long serialVersionUID = -6069641179677984507L;
-	
-	/* 
-	 * Constructor method.
-	 * ------
-	 * Create a FromFileButton object
-	 * 
-	 * @param a an ActionListener. It is actually a Data object that 
-	 * 			implements ActionListener interface. This Data object
-	 * 			will be activate when there's a click on FromFileButton
-	 * 			so that it can add the array of Events created by this 
-	 * 			button to its EventList.   
-	 */
-	public FromFileButton(ActionListener a) {
-		super("From File");
-		
-		addActionListener(a);
-	}
-	
-	/*
-	 * getEvents method.
-	 * ------
-	 * This method will show a dialog asking user to choose a file and then
-	 * use a FromFileToEvents object to parse the content of this file 
-	 * into an array of Event objects. 
-	 * Since this method involves opening a file, the FileNotFoundException 
-	 * is thrown.
-	 * 
-	 * @return an array of Event objects. 
-	 */
-	@Override
-	public Event[] getEvents() throws FileNotFoundException {
-		
-		JFileChooser c = new JFileChooser(".\\");
-	
-		/*
-		c.setFileFilter(new FileFilter() {
-
-			   public String getDescription() {
-			       return "TXT files (*.txt)";
-			   }
-
-			   public boolean accept(File f) {
-			       if (f.isDirectory()) {
-			           return true;
-			       } else {
-			           String filename = f.getName().toLowerCase();
-			           return filename.endsWith(".txt");
-			       }
-			   }
-			});
-		
-		*/
-		int result = c.showOpenDialog(null);
-		
-		if(result == JFileChooser.APPROVE_OPTION) {
-			File file = c.getSelectedFile();
-			
-			FromFileToEvents ffE = new FromFileToEvents(file);
-			
-			return ffE.getEvents();
-		}
-		
-		
-		return null;
-	}
-
-}
+package project;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.swing.JButton;
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+
+/*************************************************************
+ * FromFileButton class.
+ * 
+ * A JButton that implements AddMultipleEvents interface. 
+ * This button is the Control part of the MVC pattern.
+ * 
+ * Functionality: 
+ * 		When this button is pressed, the program will show a 
+ * 		dialog prompting user to choose a text file. Then, it 
+ * 		will use the FromFileToEvent class to stream the content
+ * 		of this text file as RecurringEvents to the Data on a 
+ * 		background thread, showing the progress in a dialog with
+ * 		a Cancel button. If 
+ * 		some of their occurrences are in conflict with other 
+ * 		events, all conflicts are listed in a single dialog.
+ *************************************************************/
+public class FromFileButton extends JButton implements AddMultipleEvents{
+
+	private static final long serialVersionUID = -6069641179677984507L;
+	
+	/* 
+	 * Constructor method.
+	 * ------
+	 * Create a FromFileButton object
+	 * 
+	 * @param a an ActionListener. It is actually a Data object that 
+	 * 			implements ActionListener interface. This Data object
+	 * 			will be activate when there's a click on FromFileButton
+	 * 			so that it can add the array of RecurringEvents created by this 
+	 * 			button to its EventList.   
+	 */
+	public FromFileButton(ActionListener a) {
+		super("From File");
+		
+		addActionListener(a);
+	}
+	
+	/*
+	 * importRecurringEvents method.
+	 * ------
+	 * This method will show a dialog asking user to choose a file and then
+	 * import it on a SwingWorker while an ImportProgressDialog shows the 
+	 * progress, refreshed every Constants.IMPORT_REFRESH_MILLIS. The file 
+	 * is parsed line by line with FromFileToEvents, pushing the 
+	 * RecurringEvents to the sink in ImportRuns of Constants.IMPORT_BATCH_RULES
+	 * lines, so that the conflicts of a batch are found at once. Files of at 
+	 * least FromFileToEvents.PARALLEL_BYTES are parsed in parallel on the 
+	 * common ForkJoinPool instead and pushed in ImportRuns of the same 
+	 * size. The events inserted, shown in the dialog, are the occurrences
+	 * that the sink added, without the ones skipped for a conflict.
+	 * 
+	 * Clicking Cancel stops the import after the lines parsed so far are 
+	 * pushed, or after the ImportRun being pushed once the file was 
+	 * parsed in parallel. If the file cannot be read, the error is shown 
+	 * in a dialog.
+	 * 
+	 * @param sink a Consumer that receives the ImportRuns
+	 * @param done a Runnable that is run once the import is over
+	 * @return false if no file was chosen
+	 */
+	@Override
+	public boolean importRecurringEvents(final Consumer<? super ImportRun> sink, final Runnable done) {
+		
+		JFileChooser c = new JFileChooser(".\\");
+	
+		/*
+		c.setFileFilter(new FileFilter() {
+
+			   public String getDescription() {
+			       return "TXT files (*.txt)";
+			   }
+
+			   public boolean accept(File f) {
+			       if (f.isDirectory()) {
+			           return true;
+			       } else {
+			           String filename = f.getName().toLowerCase();
+			           return filename.endsWith(".txt");
+			       }
+			   }
+			});
+		
+		*/
+		int result = c.showOpenDialog(null);
+		
+		if(result != JFileChooser.APPROVE_OPTION) return false;
+		
+		final File file = c.getSelectedFile();
+		final ImportProgressDialog dialog = new ImportProgressDialog(file.getName());
+		
+		final AtomicLong lines = new AtomicLong();
+		final AtomicLong events = new AtomicLong();
+		final long start = System.nanoTime();
+		
+		final Timer progressTimer = new Timer(Constants.IMPORT_REFRESH_MILLIS, new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				double seconds = (System.nanoTime() - start)/1e9;
+				
+				dialog.setProgress(lines.get(), events.get(), lines.get()/seconds);
+			}
+		});
+		
+		final SwingWorker<Void, Void> worker = new SwingWorker<Void, Void>() {
+
+			@Override
+			protected Void doInBackground() {
+				Exception error = null;
+				
+				try {
+					readFile();
+				} catch (CancellationException e) {
+					// Cancelled between two ImportRuns
+				} catch (IOException | RuntimeException e) {
+					error = e;
+				}
+				
+				final Exception failure = error;
+				
+				// done() is called as soon as the worker is cancelled, so the 
+				// end of the import is signalled from here instead
+				SwingUtilities.invokeLater(new Runnable() {
+					@Override
+					public void run() {
+						progressTimer.stop();
+						dialog.dispose();
+						
+						if(failure != null) {
+							JOptionPane.showMessageDialog(null, failure.getMessage(), 
+									"Could not import " + file.getName(), JOptionPane.ERROR_MESSAGE);
+						}
+						
+						done.run();
+					}
+				});
+				
+				return null;
+			}
+			
+			private void readFile() throws IOException {
+				if(file.length() >= FromFileToEvents.PARALLEL_BYTES) {
+					ImportRun run = FromFileToEvents.parseParallel(file, ForkJoinPool.commonPool(), lines);
+					
+					for(ImportRun part : run.split(Constants.IMPORT_BATCH_RULES)) {
+						if(isCancelled()) return;
+						
+						push(part);
+					}
+					
+					return;
+				}
+				
+				final ImportRun[] batch = { new ImportRun() };
+				
+				try {
+					FromFileToEvents.parse(file, new Consumer<RecurringEvent>() {
+						@Override
+						public void accept(RecurringEvent r) {
+							if(isCancelled()) throw new CancellationException();
+							
+							batch[0].addRule(r);
+							lines.incrementAndGet();
+							
+							if(batch[0].getRules().size() == Constants.IMPORT_BATCH_RULES) {
+								// Replaced before the push, so that a batch the sink 
+								// failed on is not pushed again by the finally block
+								ImportRun full = batch[0];
+								batch[0] = new ImportRun();
+								push(full);
+							}
+						}
+					});
+				} finally {
+					// The lines read before a cancellation or an error are kept
+					push(batch[0]);
+				}
+			}
+			
+			private void push(ImportRun run) {
+				if(run.getRules().size() == 0) return;
+				
+				sink.accept(run);
+				events.addAndGet(run.getScheduledCount());
+			}
+			
+		};
+		
+		dialog.addCancelListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				dialog.setCancelling();
+				worker.cancel(false);
+			}
+		});
+		
+		dialog.setVisible(true);
+		progressTimer.start();
+		worker.execute();
+		
+		return true;
+	}
+	
+	/*
+	 * reportConflicts method.
+	 * ------
+	 * This method will show a dialog listing all conflicts found while 
+	 * adding the events of the chosen file. Each line tells an imported 
+	 * occurrence that was skipped and the event it conflicts with, which 
+	 * stays in the calendar. The skipped occurrences that are not listed
+	 * are counted on the last line.
+	 * 
+	 * @param conflicts an ArrayList of Conflicts to be shown.
+	 * @param total the number of occurrences that were skipped
+	 */
+	@Override
+	public void reportConflicts(ArrayList<Conflict> conflicts, long total) {
+		StringBuilder sb = new StringBuilder();
+		
+		for(int i = 0; i < conflicts.size(); i++) {
+			sb.append(conflicts.get(i)).append('\n');
+		}
+		
+		if(total > conflicts.size()) {
+			sb.append("... and ").append(total - conflicts.size()).append(" more\n");
+		}
+		
+		JTextArea tA = new JTextArea(sb.toString(), 15, 60);
+		tA.setEditable(false);
+		
+		JOptionPane.showMessageDialog(null, new JScrollPane(tA), 
+						total + " imported occurrence(s) skipped", JOptionPane.WARNING_MESSAGE);
+	}
+
+}
@@ -1,131 +1,289 @@
-package project;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.Scanner;
-
-/*************************************************************
- * FromFileToEvents class.
- * 
- * This class is created exclusively to parse the formatted content 
- * of a text file into an array of Event objects. Its constructor
- * will get the file as via the parameter and its only public method,
- * getEvents, will return an array of Events parsed from that text
- * file.
- *************************************************************/
-public class FromFileToEvents {
-	private Event [] events;
-	
-	/* 
-	 * Constructor method.
-	 * ------
-	 * Create a FromFileToEvents object. 
-	 * 
-	 * @param file a File object. This file will be parsed into an
-	 * 		       array of Events.
-	 */
-	public FromFileToEvents(File file) throws FileNotFoundException  {
-		
-		ArrayList<Event> evL = new ArrayList<Event>();
-		
-		Scanner sc = new Scanner(file);
-		
-		while(sc.hasNextLine()) {
-			Event[] evs = toEvents(sc.nextLine());
-			
-			for(int i = 0; i < evs.length; i++) {
-				evL.add(evs[i]);
-			}
-		}
-		
-		events = evL.toArray(new Event[1]);
-		
-		sc.close();
-	}
-	
-	/* 
-	 * getEvents method.
-	 * ------
-	 * @return an array of Events that is parsed from the file received 
-	 * 		   from the construction's parameter.
-	 */
-	public Event [] getEvents() {
-		return events;
-	}
-
-	/* 
-	 * toEvents method.
-	 * ------
-	 * Parse a formatted line of text to an array of Events.
-	 * 
-	 * @param line a formatted string to be parsed into an array of Events.
-	 * 
-	 * @return an array of Events that is parsed from the formatted line 
-	 * 		   received from the parameter.
-	 */
-	private Event[] toEvents(String line) {
-		String [] elms = line.split(";");
-		
-		String name = elms[0],
-			   year = elms[1],
-			   monthStart = elms[2],
-			   monthEnd = elms[3],
-			   dOWs = elms[4],
-			   hourStart = elms[5],
-			   hourEnd = elms[6];
-		
-		hourStart += ":00";
-		hourEnd += ":00";
-		  
-		ArrayList<Event> alE = new ArrayList<Event>();
-		
-		for(int i = 0; i < dOWs.length(); i++) {
-			LocalDate firstDayOfMonth = toDate("01/" + monthStart + "/" + year);
-		
-			
-			int daysfromFirstDay =  ("MTWHFAS".indexOf(dOWs.charAt(i)) + 1)
-										- firstDayOfMonth
-											.getDayOfWeek()
-											.getValue();
-			
-			
-			LocalDate firstDayAfterLastMonth = toDate("01/" + monthEnd + "/" + year).plusMonths(1);
-					
-			LocalDate currentDate = firstDayOfMonth.plusDays(daysfromFirstDay);
-					
-			
-			while(currentDate.isBefore(firstDayAfterLastMonth)) {
-				alE.add(new Event(name, currentDate, new TimeInterval(hourStart, hourEnd)));
-				
-				currentDate = currentDate.plusWeeks(1);
-			}
-			
-			
-		}
-		
-		
-		return alE.toArray(new Event[1]);
-	}
-	
-	
-	/* 
-	 * toDate method.
-	 * ------
-	 * Parse a formatted string ("d/M/yyyy") into a LocalDate object.
-	 * 
-	 * @param sD a formatted string to be parsed into a LocalDate object.
-	 * 
-	 * @return A LocalDate object that is parsed from the formatted string 
-	 * 		   received from the parameter.
-	 */
-	private LocalDate toDate(String sD) {
-		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d/M/yyyy");
-		return LocalDate.parse(sD, formatter);
-	}
-	
-	
-	
-	
-}
+package project;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/*************************************************************
+ * FromFileToEvents class.
+ * 
+ * This class is created exclusively to parse the formatted content 
+ * of a text file into RecurringEvent objects. Each line of the file
+ * becomes one RecurringEvent; its occurrences are not created here.
+ * 
+ * The file is streamed line by line through a BufferedReader and 
+ * every RecurringEvent is pushed to a sink as soon as its line is
+ * parsed, so the whole file is never held in memory. The fields of
+ * a line are found by scanning for the separator rather than with
+ * a regular expression, and its numbers and days of week are read
+ * in place; only the name is copied out of the line.
+ * 
+ * Large files can also be parsed in parallel: the file is cut into
+ * line-aligned chunks that are mapped in memory and parsed on a 
+ * ForkJoinPool by ParallelImport tasks, then merged into a single 
+ * ImportRun. Small files are better streamed, since mapping a file
+ * costs more than reading a few lines.
+ *************************************************************/
+public class FromFileToEvents {
+	public static final char SEPARATOR = ';';
+	public static final int FIELDS = 7;
+	
+	public static final long MIN_CHUNK_BYTES = 1 << 20;
+	public static final long MAX_CHUNK_BYTES = 1 << 28;
+	public static final long PARALLEL_BYTES = 4 * MIN_CHUNK_BYTES;
+	public static final int CHUNKS_PER_THREAD = 4;
+	
+	/* 
+	 * parse method.
+	 * ------
+	 * Parse a file line by line, pushing each RecurringEvent to a sink
+	 * as soon as it is read. Blank lines are skipped.
+	 * 
+	 * @param file a File object to be parsed
+	 * @param sink a Consumer that receives the RecurringEvents in the order
+	 * 		  of the lines of the file
+	 * @return the number of RecurringEvents pushed to the sink
+	 * @throws IOException if the file cannot be read or a line does not 
+	 * 		   have FIELDS fields
+	 */
+	public static int parse(File file, Consumer<? super RecurringEvent> sink) throws IOException {
+		int count = 0;
+		int lineNumber = 0;
+		
+		BufferedReader br = new BufferedReader(new FileReader(file));
+		
+		try {
+			String line;
+			int[] bounds = new int[FIELDS + 1];
+			
+			while((line = br.readLine()) != null) {
+				lineNumber++;
+				
+				if(line.trim().isEmpty()) continue;
+				
+				if(!split(line, bounds)) {
+					throw new IOException("Line " + lineNumber + " of " + file.getName() 
+											+ " does not have " + FIELDS + " fields");
+				}
+				
+				sink.accept(toRecurringEvent(line, bounds));
+				count++;
+			}
+		} finally {
+			br.close();
+		}
+		
+		return count;
+	}
+
+	/* 
+	 * parseParallel method.
+	 * ------
+	 * Parse a file on a ForkJoinPool. The file is cut into chunks of 
+	 * MIN_CHUNK_BYTES to MAX_CHUNK_BYTES that end at the end of a line, 
+	 * about CHUNKS_PER_THREAD chunks per thread of the pool. Each chunk 
+	 * is mapped in memory and parsed by a ParallelImport task, then the 
+	 * runs of the chunks are joined in order. Files of 
+	 * several gigabytes can be parsed this way since no chunk is larger
+	 * than what a MappedByteBuffer can hold.
+	 * 
+	 * @param file a File object to be parsed
+	 * @param pool the ForkJoinPool that runs the tasks
+	 * @return an ImportRun of all lines of the file
+	 * @throws IOException if the file cannot be read or a line does not 
+	 * 		   have FIELDS fields
+	 */
+	public static ImportRun parseParallel(File file, ForkJoinPool pool) throws IOException {
+		return parseParallel(file, pool, new AtomicLong());
+	}
+	
+	/* 
+	 * parseParallel method.
+	 * ------
+	 * Parse a file on a ForkJoinPool like parseParallel(file, pool) while 
+	 * counting the lines parsed so far.
+	 * 
+	 * @param file a File object to be parsed
+	 * @param pool the ForkJoinPool that runs the tasks
+	 * @param linesParsed a counter that the number of lines of each chunk
+	 * 		  is added to once the chunk is parsed
+	 * @return an ImportRun of all lines of the file
+	 * @throws IOException if the file cannot be read or a line does not 
+	 * 		   have FIELDS fields
+	 */
+	public static ImportRun parseParallel(File file, ForkJoinPool pool, AtomicLong linesParsed) 
+																		throws IOException {
+		FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		
+		try {
+			long[] bounds = getChunkBounds(channel, pool.getParallelism() * CHUNKS_PER_THREAD);
+			
+			if(bounds.length == 1) return new ImportRun();
+			
+			return pool.invoke(new ParallelImport(channel, bounds, 0, bounds.length - 1, 
+													Charset.defaultCharset(), linesParsed));
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} finally {
+			channel.close();
+		}
+	}
+	
+	/* 
+	 * getChunkBounds method.
+	 * ------
+	 * Cut a file into line-aligned chunks of about the same size. 
+	 * 
+	 * @param channel the FileChannel of the file
+	 * @param chunks an integer specifies the wanted number of chunks. Less
+	 * 		  chunks are made if they would be smaller than MIN_CHUNK_BYTES
+	 * 		  and more if they would be larger than MAX_CHUNK_BYTES.
+	 * @return the offsets of the chunks: chunk i goes from bounds[i] to
+	 * 		   bounds[i+1] - 1, and the last offset is the size of the file
+	 */
+	private static long[] getChunkBounds(FileChannel channel, int chunks) throws IOException {
+		long size = channel.size();
+		long chunkSize = Math.max(MIN_CHUNK_BYTES, size / Math.max(1, chunks) + 1);
+		
+		chunkSize = Math.min(chunkSize, MAX_CHUNK_BYTES);
+		
+		ArrayList<Long> bounds = new ArrayList<Long>();
+		ByteBuffer buf = ByteBuffer.allocate(4096);
+		long pos = 0;
+		
+		bounds.add(pos);
+		
+		while(pos < size) {
+			pos = Math.min(size, pos + chunkSize);
+			
+			// Move to the byte after the next end of line
+			while(pos < size) {
+				buf.clear();
+				
+				int n = channel.read(buf, pos);
+				int i = 0;
+				
+				if(n <= 0) {
+					pos = size;
+					break;
+				}
+				
+				while(i < n && buf.get(i) != '\n') i++;
+				
+				pos += i;
+				
+				if(i < n) {
+					pos++;
+					break;
+				}
+			}
+			
+			bounds.add(pos);
+		}
+		
+		long[] result = new long[bounds.size()];
+		
+		for(int i = 0; i < result.length; i++) {
+			result[i] = bounds.get(i);
+		}
+		
+		return result;
+	}
+
+	/* 
+	 * split method.
+	 * ------
+	 * Find the fields of a formatted line of text. Field i goes from 
+	 * bounds[i] to bounds[i+1] - 1, the separator being skipped.
+	 * 
+	 * @param line a formatted string
+	 * @param bounds an array of FIELDS + 1 integers that receives the 
+	 * 		  positions of the fields
+	 * @return false if the line has less than FIELDS fields
+	 */
+	private static boolean split(String line, int[] bounds) {
+		bounds[0] = 0;
+		
+		for(int i = 1; i < FIELDS; i++) {
+			int sep = line.indexOf(SEPARATOR, bounds[i - 1]);
+			
+			if(sep < 0) return false;
+			
+			bounds[i] = sep + 1;
+		}
+		
+		int sep = line.indexOf(SEPARATOR, bounds[FIELDS - 1]);
+		
+		bounds[FIELDS] = (sep < 0 ? line.length() : sep) + 1;
+		
+		return true;
+	}
+
+	/* 
+	 * toRecurringEvent method.
+	 * ------
+	 * Parse a formatted line of text to a RecurringEvent. The event happens
+	 * on the listed days of week from the first day of the starting month
+	 * to the last day of the ending month.
+	 * 
+	 * @param line a formatted string to be parsed into a RecurringEvent.
+	 * @param bounds the positions of the fields of the line found by split
+	 * 
+	 * @return a RecurringEvent that is parsed from the formatted line 
+	 * 		   received from the parameter.
+	 */
+	private static RecurringEvent toRecurringEvent(String line, int[] bounds) {
+		String name = line.substring(bounds[0], bounds[1] - 1);
+		
+		int year = toInt(line, bounds[1], bounds[2] - 1),
+			monthStart = toInt(line, bounds[2], bounds[3] - 1),
+			monthEnd = toInt(line, bounds[3], bounds[4] - 1),
+			hourStart = toInt(line, bounds[5], bounds[6] - 1),
+			hourEnd = toInt(line, bounds[6], bounds[7] - 1);
+		
+		int dOWs = 0;
+		
+		for(int i = bounds[4]; i < bounds[5] - 1; i++) {
+			int dOW = RecurringEvent.DAYS_OF_WEEK.indexOf(line.charAt(i));
+			
+			if(dOW >= 0) dOWs |= 1 << dOW;
+		}
+		
+		LocalDate firstDayOfMonth = LocalDate.of(year, monthStart, 1);
+		
+		LocalDate firstDayAfterLastMonth = LocalDate.of(year, monthEnd, 1).plusMonths(1);
+		
+		return new RecurringEvent(name, firstDayOfMonth, firstDayAfterLastMonth, 
+									dOWs, new TimeInterval(hourStart*60, hourEnd*60));
+	}
+	
+	
+	/* 
+	 * toInt method.
+	 * ------
+	 * Parse a decimal number inside a string without creating a substring.
+	 * 
+	 * @param s a string
+	 * @param from the index of the first character of the number
+	 * @param to the index after the last character of the number
+	 * 
+	 * @return the number
+	 */
+	private static int toInt(String s, int from, int to) {
+		return Integer.parseInt(s, from, to, 10);
+	}
+	
+	
+	
+	
+}
@@ -0,0 +1,84 @@
+package project;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+class FromFileToEventsTest {
+
+	@Test
+	void parallelParsingMatchesStreaming() throws IOException {
+		File file = File.createTempFile("schedule", ".txt");
+		file.deleteOnExit();
+
+		Random random = new Random(11);
+		BufferedWriter bw = new BufferedWriter(new FileWriter(file));
+		int lines = 0;
+
+		try {
+			// Large enough to be cut into several chunks
+			while(file.length() < 3*FromFileToEvents.MIN_CHUNK_BYTES) {
+				for(int i = 0; i < 10000; i++, lines++) {
+					int month = 1 + random.nextInt(12);
+					int hour = random.nextInt(23);
+
+					bw.write("Event " + lines + ";2026;" + month + ";" + Math.min(12, month + random.nextInt(3))
+								+ ";" + RecurringEvent.DAYS_OF_WEEK.substring(random.nextInt(7)) + ";"
+								+ hour + ";" + (hour + 1) + ";");
+					bw.write(i%7 == 0 ? "\r\n" : "\n");
+
+					if(i%1000 == 0) bw.write("\n");
+				}
+
+				bw.flush();
+			}
+		} finally {
+			bw.close();
+		}
+
+		final ArrayList<RecurringEvent> streamed = new ArrayList<RecurringEvent>();
+
+		FromFileToEvents.parse(file, new Consumer<RecurringEvent>() {
+			@Override
+			public void accept(RecurringEvent r) {
+				streamed.add(r);
+			}
+		});
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		AtomicLong parsed = new AtomicLong();
+
+		try {
+			ImportRun run = FromFileToEvents.parseParallel(file, pool, parsed);
+			ArrayList<RecurringEvent> rules = run.getRules();
+
+			assertEquals(lines, streamed.size());
+			assertEquals(lines, rules.size());
+			assertEquals(lines, parsed.get());
+
+			for(int i = 0; i < lines; i++) {
+				assertEquals(describe(streamed.get(i)), describe(rules.get(i)));
+			}
+
+			assertEquals(streamed.get(0).getFirstDay().withMonth(1), run.getFirstDay());
+			assertEquals(streamed.get(0).getFirstDay().withYear(2027).withMonth(1), run.getLastDay());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private static String describe(RecurringEvent r) {
+		return r.getName() + " " + r.getFirstDay() + " " + r.getLastDay() + " " + r.getDaysOfWeek()
+				+ " " + r.getTimeInterval().getStartMinute() + "-" + r.getTimeInterval().getEndMinute();
+	}
+
+}
@@ -0,0 +1,155 @@
+package project;
+import java.awt.event.ActionEvent;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**************************************************************
+ * ImportBenchmark class.
+ *
+ * A command line benchmark of the import of a file. It writes a
+ * schedule file in the format of input.txt, then measures the two
+ * steps of the import separately:
+ * 		- parse: FromFileToEvents.parseParallel on ForkJoinPools of
+ * 		  1, 2, 4, ... threads up to the number of processors.
+ * 		- insert: pushing the parsed ImportRun to an empty Data the
+ * 		  way FromFileButton does, which finds the conflicts and adds
+ * 		  the rules to the EventList in batches.
+ * The best time and throughput of each are printed.
+ *
+ * Usage: java project.ImportBenchmark [lines] [repetitions]
+ *************************************************************/
+
+public class ImportBenchmark {
+	public static final int DEFAULT_LINES = 200000;
+	public static final int DEFAULT_REPETITIONS = 5;
+
+	//Main method
+	public static void main(String[] args) throws IOException {
+		int lines = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LINES;
+		int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_REPETITIONS;
+
+		File file = File.createTempFile("schedule", ".txt");
+		file.deleteOnExit();
+
+		writeFile(file, lines);
+
+		System.out.println(lines + " lines, " + file.length() / 1024 + " KB");
+
+		int processors = Runtime.getRuntime().availableProcessors();
+		double baseline = 0;
+
+		for(int threads = 1; ; threads = Math.min(threads * 2, processors)) {
+			ForkJoinPool pool = new ForkJoinPool(threads);
+			long best = Long.MAX_VALUE;
+
+			// The first run warms up the JIT and is not counted
+			for(int i = 0; i <= repetitions; i++) {
+				long start = System.nanoTime();
+				FromFileToEvents.parseParallel(file, pool);
+				long time = System.nanoTime() - start;
+
+				if(i > 0) best = Math.min(best, time);
+			}
+
+			pool.shutdown();
+
+			double millis = best / 1e6;
+
+			if(threads == 1) baseline = millis;
+
+			System.out.printf("parse, %2d thread(s): %8.1f ms, %10.0f lines/s, speedup %.2f%n",
+								threads, millis, lines / (millis / 1000), baseline / millis);
+
+			if(threads == processors) break;
+		}
+
+		long best = Long.MAX_VALUE;
+		long[] counts = null;
+
+		for(int i = 0; i <= repetitions; i++) {
+			// The rules keep the occurrences skipped by a Data, so every
+			// insert needs a new parse
+			ImportRun run = FromFileToEvents.parseParallel(file, ForkJoinPool.commonPool());
+
+			long start = System.nanoTime();
+			counts = insert(run);
+			long time = System.nanoTime() - start;
+
+			if(i > 0) best = Math.min(best, time);
+		}
+
+		double millis = best / 1e6;
+
+		System.out.printf("insert:              %8.1f ms, %10.0f lines/s, %d occurrences added, %d skipped%n",
+							millis, lines / (millis / 1000), counts[0], counts[1]);
+	}
+
+
+	/*
+	 * insert method.
+	 * ------
+	 * Push a run to a new Data, as FromFileButton pushes a file parsed in
+	 * parallel, and wait until it is added.
+	 *
+	 * @param run an ImportRun that was not added to a Data yet
+	 * @return the number of occurrences added and the number skipped
+	 */
+	private static long[] insert(final ImportRun run) {
+		EventBus bus = new EventBus();
+		Data data = new Data(bus);
+		final long[] counts = new long[2];
+
+		data.actionPerformed(new ActionEvent(new AddMultipleEvents() {
+			@Override
+			public boolean importRecurringEvents(Consumer<? super ImportRun> sink, Runnable done) {
+				sink.accept(run);
+				done.run();
+				return true;
+			}
+
+			@Override
+			public void reportConflicts(ArrayList<Conflict> conflicts, long total) {
+				counts[1] = total;
+			}
+		}, ActionEvent.ACTION_PERFORMED, null));
+
+		counts[0] = run.getScheduledCount();
+
+		return counts;
+	}
+
+
+	/*
+	 * writeFile method.
+	 * ------
+	 * Write a schedule file of random recurring events.
+	 *
+	 * @param file the File to be written
+	 * @param lines the number of lines of the file
+	 */
+	private static void writeFile(File file, int lines) throws IOException {
+		Random random = new Random(42);
+		BufferedWriter bw = new BufferedWriter(new FileWriter(file));
+
+		try {
+			for(int i = 0; i < lines; i++) {
+				int month = 1 + random.nextInt(12);
+				int hour = random.nextInt(23);
+				char day = RecurringEvent.DAYS_OF_WEEK.charAt(random.nextInt(7));
+
+				bw.write("Event " + i + ";2026;" + month + ";" + month + ";" + day + ";"
+							+ hour + ";" + (hour + 1) + ";");
+				bw.newLine();
+			}
+		} finally {
+			bw.close();
+		}
+	}
+
+}
@@ -0,0 +1,96 @@
+package project;
+import java.awt.BorderLayout;
+import java.awt.event.ActionListener;
+
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.border.EmptyBorder;
+
+/**************************************************************
+ * ImportProgressDialog class.
+ *
+ * A dialog that is shown while a file is imported in the
+ * background. It tells how many lines were parsed, how many
+ * events were inserted and the rate of the import, and has a
+ * Cancel button to stop it. The dialog is not modal so that the
+ * calendar can still be browsed during the import.
+ *************************************************************/
+public class ImportProgressDialog extends JDialog {
+
+	private static final long serialVersionUID = 2873410592866104217L;
+
+	private JLabel statusLabel;
+	private JButton cancelButton;
+
+	/*
+	 * Constructor method.
+	 * ------
+	 * Create an ImportProgressDialog object with a status label in the
+	 * CENTER position and a Cancel button in the SOUTH position.
+	 *
+	 * @param fileName the name of the file being imported
+	 */
+	public ImportProgressDialog(String fileName) {
+		super();
+
+		setTitle("Importing " + fileName);
+		setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+
+		JPanel panel = new JPanel(new BorderLayout(0, 10));
+		panel.setBorder(new EmptyBorder(10,10,10,10));
+
+		statusLabel = new JLabel();
+		cancelButton = new JButton("Cancel");
+
+		panel.add(statusLabel, BorderLayout.CENTER);
+		panel.add(cancelButton, BorderLayout.SOUTH);
+
+		add(panel);
+
+		setProgress(0, 0, 0);
+
+		pack();
+		setLocationRelativeTo(null);
+	}
+
+
+	/*
+	 * addCancelListener method.
+	 * ------
+	 * @param l an ActionListener that is activated when the Cancel button
+	 * 			is clicked
+	 */
+	public void addCancelListener(ActionListener l) {
+		cancelButton.addActionListener(l);
+	}
+
+
+	/*
+	 * setProgress method.
+	 * ------
+	 * Show the progress of the import.
+	 *
+	 * @param lines the number of lines parsed so far
+	 * @param events the number of events inserted so far
+	 * @param rate the number of lines parsed per second
+	 */
+	public void setProgress(long lines, long events, double rate) {
+		statusLabel.setText(String.format("%,d lines parsed, %,d events inserted (%,.0f lines/s)",
+											lines, events, rate));
+	}
+
+
+	/*
+	 * setCancelling method.
+	 * ------
+	 * Disable the Cancel button once it was clicked, while the import
+	 * finishes the RecurringEvent it is adding.
+	 */
+	public void setCancelling() {
+		cancelButton.setEnabled(false);
+		cancelButton.setText("Cancelling...");
+	}
+
+}
@@ -0,0 +1,162 @@
+package project;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+/**************************************************************
+ * ImportRun class.
+ *
+ * A part of an imported file that is ready to be added to the
+ * Data: the RecurringEvents of consecutive lines of the file, in
+ * the order of the lines. Only the rules are kept; their
+ * occurrences are created by the ConflictDetector, one day at a
+ * time, and the EventList stores the rules.
+ *
+ * Runs parsed in parallel are merged two by two, in the order of
+ * the lines, so that the Data receives a single run. A large run
+ * is split again into parts of consecutive lines when it is 
+ * added, so that the Data is never locked for long.
+ *************************************************************/
+
+public class ImportRun {
+	private ArrayList<RecurringEvent> rules;
+	private long firstDay;
+	private long lastDay;
+	private long scheduled;
+
+	/*
+	 * Constructor method.
+	 * ------
+	 * Create an empty ImportRun object.
+	 */
+	public ImportRun() {
+		rules = new ArrayList<RecurringEvent>();
+		firstDay = Long.MAX_VALUE;
+		lastDay = Long.MIN_VALUE;
+	}
+
+
+	/*
+	 * addRule method.
+	 * ------
+	 * Append a RecurringEvent to the run.
+	 *
+	 * @param r a RecurringEvent
+	 */
+	void addRule(RecurringEvent r) {
+		rules.add(r);
+
+		firstDay = Math.min(firstDay, r.getFirstEpochDay());
+		lastDay = Math.max(lastDay, r.getLastEpochDay());
+	}
+
+
+	/*
+	 * getRules method.
+	 * ------
+	 * @return the RecurringEvents of the run in the order of the file.
+	 * 		   The list must not be modified.
+	 */
+	public ArrayList<RecurringEvent> getRules() {
+		return rules;
+	}
+
+
+	/*
+	 * setScheduledCount method.
+	 * ------
+	 * Tell how many occurrences of the run were added to the Data.
+	 *
+	 * @param n the number of occurrences that were not skipped
+	 */
+	void setScheduledCount(long n) {
+		scheduled = n;
+	}
+
+
+	/*
+	 * getScheduledCount method.
+	 * ------
+	 * @return the number of occurrences of the run that were added to the
+	 * 		   Data once it was pushed to it, or 0 before
+	 */
+	public long getScheduledCount() {
+		return scheduled;
+	}
+
+
+	/*
+	 * getFirstDay method.
+	 * ------
+	 * @return a LocalDate specifies the first day of the earliest rule of
+	 * 		   the run, or null if the run is empty
+	 */
+	public LocalDate getFirstDay() {
+		return rules.size() == 0 ? null : LocalDate.ofEpochDay(firstDay);
+	}
+
+
+	/*
+	 * getLastDay method.
+	 * ------
+	 * @return a LocalDate specifies the day after the last day of the
+	 * 		   latest rule of the run, or null if the run is empty
+	 */
+	public LocalDate getLastDay() {
+		return rules.size() == 0 ? null : LocalDate.ofEpochDay(lastDay);
+	}
+
+
+	/*
+	 * split method.
+	 * ------
+	 * Split the run into runs of consecutive rules.
+	 *
+	 * @param maxRules the maximum number of rules of a part
+	 * @return the parts in the order of the lines. A run that is small
+	 * 		   enough is its only part.
+	 */
+	public ArrayList<ImportRun> split(int maxRules) {
+		ArrayList<ImportRun> parts = new ArrayList<ImportRun>();
+
+		if(rules.size() <= maxRules) {
+			parts.add(this);
+			return parts;
+		}
+
+		for(int i = 0; i < rules.size(); i += maxRules) {
+			ImportRun part = new ImportRun();
+			int end = Math.min(rules.size(), i + maxRules);
+
+			part.rules.ensureCapacity(end - i);
+
+			for(int j = i; j < end; j++) {
+				part.addRule(rules.get(j));
+			}
+
+			parts.add(part);
+		}
+
+		return parts;
+	}
+
+
+	/*
+	 * merge method.
+	 * ------
+	 * Merge two runs into one. The rules of b are appended to a, so only
+	 * the references to the rules of b are copied.
+	 *
+	 * @param a the run of the earlier lines of the file. It is changed.
+	 * @param b the run of the later lines of the file
+	 * @return a, holding the rules of both
+	 */
+	public static ImportRun merge(ImportRun a, ImportRun b) {
+		a.rules.addAll(b.rules);
+
+		a.firstDay = Math.min(a.firstDay, b.firstDay);
+		a.lastDay = Math.max(a.lastDay, b.lastDay);
+
+		return a;
+	}
+
+}
@@ -0,0 +1,779 @@
+package project;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**************************************************************
+ * Journal class.
+ *
+ * An append-only file of everything added to the Data, so that
+ * the calendar survives a restart. Every event and recurring
+ * event that was added is written as a compact binary record:
+ *
+ * 		[int length][byte type][payload][int CRC32 of type+payload]
+ *
+ * Adding a record only copies it into a buffer in memory. The
+ * buffer is written to the file according to a sync policy:
+ * 		- SYNC_ALWAYS: written and forced to the disk by the thread
+ * 		  that adds the record.
+ * 		- SYNC_GROUP: written and forced every few milliseconds by
+ * 		  a background thread, so that many records share a single
+ * 		  fsync (group commit).
+ * 		- SYNC_NEVER: written by the background thread and left to
+ * 		  the operating system.
+ *
+ * Records that cannot be written are kept in the buffer and
+ * written again by the next flush. The error is thrown by flush,
+ * or else once by the next append, so that the Data can tell the
+ * user that events are not saved without telling it for every
+ * event until the file can be written again.
+ *
+ * On startup, the records are replayed in order into an empty
+ * EventList, or into the EventList of a Snapshot from the position
+ * the snapshot was taken at. Since the EventList adds them the same
+ * way again, the same occurrences of the recurring events are
+ * skipped. A record that was only partly written when the program
+ * stopped is dropped.
+ *
+ * The records that are in a snapshot are cut off by truncate,
+ * which moves the records after them to a new file. Every file
+ * has a generation number in its header, so that a snapshot can
+ * tell which file its position refers to.
+ *************************************************************/
+
+public class Journal {
+	public static final int SYNC_ALWAYS = 0;
+	public static final int SYNC_GROUP = 1;
+	public static final int SYNC_NEVER = 2;
+
+	private static final int MAGIC = 0x43414c4a;
+	private static final int VERSION = 2;
+	private static final int HEADER_BYTES = 16;
+
+	private static final byte EVENT_RECORD = 1;
+	private static final byte RULE_RECORD = 2;
+
+	private static final int BUFFER_BYTES = 1 << 16;
+
+	private File file;
+	private FileChannel channel;
+	private long generation;
+	private int syncPolicy;
+
+	private ByteBuffer pending;
+	private ByteBuffer spare;
+	private Object writeLock;
+	private CRC32 crc;
+
+	private ScheduledExecutorService flusher;
+
+	private long records;
+	private IOException failure;
+	private boolean failureReported;
+
+	/*
+	 * Constructor method.
+	 * ------
+	 * Open a Journal file, creating it if it does not exist.
+	 *
+	 * @param file the File of the journal
+	 * @param policy one of SYNC_ALWAYS, SYNC_GROUP, and SYNC_NEVER
+	 * @param syncMillis an integer specifies how often, in milliseconds,
+	 * 		  the background thread writes the records with SYNC_GROUP
+	 * 		  and SYNC_NEVER
+	 * @throws IOException if the file cannot be opened or is not a journal
+	 */
+	public Journal(File file, int policy, int syncMillis) throws IOException {
+		this.file = file;
+		channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+									StandardOpenOption.READ, StandardOpenOption.WRITE);
+		syncPolicy = policy;
+
+		try {
+			if(channel.size() < HEADER_BYTES) {
+				channel.truncate(0);
+				writeHeader(channel, 0);
+			}
+			else {
+				checkHeader();
+			}
+
+			channel.position(channel.size());
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+
+		pending = ByteBuffer.allocate(BUFFER_BYTES);
+		spare = ByteBuffer.allocate(BUFFER_BYTES);
+		writeLock = new Object();
+		crc = new CRC32();
+
+		records = 0;
+
+		if(syncPolicy != SYNC_ALWAYS) {
+			flusher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r, "Journal flusher");
+					t.setDaemon(true);
+					return t;
+				}
+			});
+
+			flusher.scheduleWithFixedDelay(new Runnable() {
+				@Override
+				public void run() {
+					tryWrite();
+				}
+			}, syncMillis, syncMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+
+	/*
+	 * replay method.
+	 * ------
+	 * Add the records of the journal from a position to an EventList, in
+	 * the order they were written. It must be called before anything is
+	 * appended. The end of the file after the last complete record is cut
+	 * off.
+	 *
+	 * @param list the EventList the records are added to
+	 * @param from the position of the first record to replay, as given by
+	 * 		  getStart, or 0 to replay every record. The whole journal is
+	 * 		  replayed if it is shorter than that.
+	 * @return the number of records replayed
+	 * @throws IOException if the file cannot be read
+	 */
+	public long replay(EventList list, long from) throws IOException {
+		long valid = from >= HEADER_BYTES && from <= channel.size() ? from : HEADER_BYTES;
+		long replayed = 0;
+
+		channel.position(valid);
+
+		DataInputStream in = new DataInputStream(new BufferedInputStream(
+											Channels.newInputStream(channel), BUFFER_BYTES));
+
+		byte[] record = new byte[256];
+
+		while(true) {
+			int length;
+
+			try {
+				length = in.readInt();
+
+				if(length <= 0 || length > channel.size()) break;
+
+				if(record.length < length) record = new byte[length];
+
+				in.readFully(record, 0, length);
+
+				crc.reset();
+				crc.update(record, 0, length);
+
+				if(in.readInt() != (int)crc.getValue()) break;
+			} catch (EOFException e) {
+				break;
+			}
+
+			restore(ByteBuffer.wrap(record, 0, length), list);
+
+			valid += 4 + length + 4;
+			replayed++;
+		}
+
+		// Closing the stream would close the channel
+		channel.truncate(valid);
+		channel.position(valid);
+
+		records = replayed;
+
+		return replayed;
+	}
+
+
+	/*
+	 * fold method.
+	 * ------
+	 * Add the records between two positions to an EventList. They are read
+	 * at their positions, which does not move the position of the channel,
+	 * so that the records being appended are not disturbed, and the file
+	 * is not mapped, so that truncate can replace it on every platform.
+	 * Only the thread that calls truncate may call it.
+	 *
+	 * @param list the EventList the records are added to
+	 * @param from the position of the first record, as given by getStart
+	 * @param to the position after the last record, as given by getPosition
+	 * @throws IOException if the file cannot be read or a record is not
+	 * 		   valid
+	 */
+	public void fold(EventList list, long from, long to) throws IOException {
+		if(to - from > Integer.MAX_VALUE) throw new IOException("The records are too large to be read");
+
+		ByteBuffer buf = ByteBuffer.allocate((int)(to - from));
+
+		while(buf.hasRemaining()) {
+			if(channel.read(buf, from + buf.position()) < 0) {
+				throw new IOException("The records end at byte " + (from + buf.position()));
+			}
+		}
+
+		buf.flip();
+
+		CRC32 check = new CRC32();
+
+		while(buf.hasRemaining()) {
+			long at = from + buf.position();
+			int length = buf.getInt();
+
+			if(length <= 0 || length + 4 > buf.remaining()) {
+				throw new IOException("The record at byte " + at + " is not valid");
+			}
+
+			ByteBuffer record = buf.slice();
+			record.limit(length);
+
+			check.reset();
+			check.update(record);
+			record.rewind();
+
+			buf.position(buf.position() + length);
+
+			if(buf.getInt() != (int)check.getValue()) {
+				throw new IOException("The record at byte " + at + " is corrupted");
+			}
+
+			restore(record, list);
+		}
+	}
+
+
+	/*
+	 * truncate method.
+	 * ------
+	 * Cut off the records before a position, once they are in a snapshot.
+	 * The records after it are copied to a new file of the next generation
+	 * that then replaces the file. Records keep being added meanwhile;
+	 * they are written when the new file is in place.
+	 *
+	 * @param position the position after the last record to cut off
+	 * @return the number of bytes the file shrank by
+	 * @throws IOException if the new file cannot be written. The file is
+	 * 		   left as it was.
+	 */
+	public long truncate(long position) throws IOException {
+		synchronized(writeLock) {
+			long end = channel.position();
+			File tmp = new File(file.getPath() + ".tmp");
+
+			FileChannel next = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE,
+									StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+			try {
+				writeHeader(next, generation + 1);
+
+				for(long copied = 0; copied < end - position; ) {
+					copied += channel.transferTo(position + copied, end - position - copied, next);
+				}
+
+				next.force(true);
+			} finally {
+				next.close();
+			}
+
+			// The file is closed first so that it can be replaced on every platform
+			channel.close();
+
+			boolean moved = false;
+
+			try {
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+							StandardCopyOption.ATOMIC_MOVE);
+				moved = true;
+			} finally {
+				channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+				channel.position(channel.size());
+			}
+
+			if(moved) generation++;
+
+			return end - channel.size();
+		}
+	}
+
+
+	/*
+	 * appendEvent method.
+	 * ------
+	 * Append a record of an event that was added to the Data.
+	 *
+	 * @param e an Event
+	 * @throws IOException if the records cannot be written to the file. The
+	 * 		   record is appended anyway and written once the file can be.
+	 */
+	public void appendEvent(Event e) throws IOException {
+		byte[] name = toNameBytes(e.getName());
+
+		synchronized(this) {
+			int start = beginRecord(EVENT_RECORD, 4 + 2 + 2 + 2 + name.length);
+
+			pending.putInt((int)e.getDate().toEpochDay());
+			pending.putShort((short)e.getStartMinute());
+			pending.putShort((short)e.getEndMinute());
+			putName(name);
+
+			endRecord(start);
+		}
+
+		if(syncPolicy == SYNC_ALWAYS) tryWrite();
+
+		checkFailure();
+	}
+
+
+	/*
+	 * appendRecurringEvent method.
+	 * ------
+	 * Append a record of a recurring event that was added to the Data.
+	 *
+	 * @param r a RecurringEvent
+	 * @throws IOException if the records cannot be written to the file. The
+	 * 		   record is appended anyway and written once the file can be.
+	 */
+	public void appendRecurringEvent(RecurringEvent r) throws IOException {
+		byte[] name = toNameBytes(r.getName());
+
+		synchronized(this) {
+			int start = beginRecord(RULE_RECORD, 4 + 4 + 1 + 2 + 2 + 2 + name.length);
+
+			pending.putInt((int)r.getFirstDay().toEpochDay());
+			pending.putInt((int)r.getLastDay().toEpochDay());
+			pending.put((byte)r.getDaysOfWeek());
+			pending.putShort((short)r.getTimeInterval().getStartMinute());
+			pending.putShort((short)r.getTimeInterval().getEndMinute());
+			putName(name);
+
+			endRecord(start);
+		}
+
+		if(syncPolicy == SYNC_ALWAYS) tryWrite();
+
+		checkFailure();
+	}
+
+
+	/*
+	 * flush method.
+	 * ------
+	 * Write the records added so far to the file and, unless the policy is
+	 * SYNC_NEVER, force them to the disk. The records keep being added to
+	 * the other buffer meanwhile, so adding a record never waits for the
+	 * disk with SYNC_GROUP and SYNC_NEVER.
+	 *
+	 * @throws IOException if the records cannot be written. The records
+	 * 		   that were not written are kept, ahead of the ones added 
+	 * 		   meanwhile, for the next flush.
+	 */
+	public void flush() throws IOException {
+		try {
+			write();
+		} catch (IOException e) {
+			synchronized(this) {
+				failureReported = true;
+			}
+
+			throw e;
+		}
+	}
+
+
+	/*
+	 * write method.
+	 * ------
+	 * Write the records added so far, the way flush does, keeping the
+	 * error met, if any, for checkFailure.
+	 *
+	 * @throws IOException if the records cannot be written
+	 */
+	private void write() throws IOException {
+		synchronized(writeLock) {
+			ByteBuffer buf;
+
+			synchronized(this) {
+				if(pending.position() == 0) return;
+
+				buf = pending;
+				pending = spare;
+			}
+
+			buf.flip();
+
+			try {
+				while(buf.hasRemaining()) {
+					channel.write(buf);
+				}
+
+				if(syncPolicy != SYNC_NEVER) channel.force(false);
+			} catch (IOException e) {
+				synchronized(this) {
+					keepUnwritten(buf);
+
+					failure = e;
+				}
+
+				throw e;
+			}
+
+			buf.clear();
+
+			synchronized(this) {
+				spare = buf;
+				failure = null;
+				failureReported = false;
+			}
+		}
+	}
+
+
+	/*
+	 * tryWrite method.
+	 * ------
+	 * Write the records, on the background thread or after an append. An
+	 * error is left for checkFailure to throw.
+	 */
+	private void tryWrite() {
+		try {
+			write();
+		} catch (IOException e) {
+			// Thrown by checkFailure
+		}
+	}
+
+
+	/*
+	 * checkFailure method.
+	 * ------
+	 * @throws IOException the error met by the last write, unless it was
+	 * 		   thrown already since the last write that succeeded
+	 */
+	private synchronized void checkFailure() throws IOException {
+		if(failure != null && !failureReported) {
+			failureReported = true;
+			throw failure;
+		}
+	}
+
+
+	/*
+	 * keepUnwritten method.
+	 * ------
+	 * Put the records of a buffer that were not written back in front of
+	 * the records added since it was taken. It must be called holding the
+	 * lock of the Journal.
+	 *
+	 * @param buf the buffer that was being written, whose position is after
+	 * 		  the last byte written
+	 */
+	private void keepUnwritten(ByteBuffer buf) {
+		ByteBuffer kept = buf.remaining() + pending.position() <= buf.capacity() 
+							? buf : ByteBuffer.allocate(buf.remaining() + pending.position());
+
+		if(kept == buf) {
+			buf.compact();
+		}
+		else {
+			kept.put(buf);
+			buf.clear();
+		}
+
+		pending.flip();
+		kept.put(pending);
+		pending.clear();
+
+		if(kept == buf) {
+			spare = pending;
+		}
+		else {
+			spare = buf;
+		}
+
+		pending = kept;
+	}
+
+
+	/*
+	 * close method.
+	 * ------
+	 * Write the remaining records and close the file.
+	 */
+	public void close() {
+		if(flusher != null) flusher.shutdown();
+
+		synchronized(writeLock) {
+			try {
+				flush();
+			} catch (IOException e) {
+				// The records that are left are lost with the program
+			}
+
+			try {
+				channel.close();
+			} catch (IOException e) {
+				synchronized(this) {
+					failure = e;
+				}
+			}
+		}
+	}
+
+
+	/*
+	 * getPosition method.
+	 * ------
+	 * @return the position in the file after the last record written. It
+	 * 		   covers every record appended before the last flush, and is 
+	 * 		   only valid until the next truncate.
+	 * @throws IOException if the position cannot be read
+	 */
+	public long getPosition() throws IOException {
+		synchronized(writeLock) {
+			return channel.position();
+		}
+	}
+
+
+	/*
+	 * getGeneration method.
+	 * ------
+	 * @return the generation of the file, which truncate increments
+	 */
+	public long getGeneration() {
+		synchronized(writeLock) {
+			return generation;
+		}
+	}
+
+
+	/*
+	 * getStart method.
+	 * ------
+	 * Find where to start replaying the journal after a snapshot. A
+	 * snapshot of the previous generation was taken exactly where the
+	 * file starts now, since the file is only truncated at the position
+	 * of a snapshot.
+	 *
+	 * @param s a Snapshot, or null
+	 * @return the position of the first record that is not in s
+	 */
+	public long getStart(Snapshot s) {
+		synchronized(writeLock) {
+			if(s != null && s.getJournalGeneration() == generation) return s.getJournalOffset();
+
+			return HEADER_BYTES;
+		}
+	}
+
+
+	/*
+	 * getRecordCount method.
+	 * ------
+	 * @return the number of records replayed and appended since the
+	 * 		   journal was opened, including the ones not written to the
+	 * 		   file yet
+	 */
+	public synchronized long getRecordCount() {
+		return records;
+	}
+
+
+	/*
+	 * getFailure method.
+	 * ------
+	 * @return the error met by the last write to the file, or null if it
+	 * 		   succeeded
+	 */
+	public synchronized IOException getFailure() {
+		return failure;
+	}
+
+
+	/*
+	 * beginRecord method.
+	 * ------
+	 * Start a record in the buffer, growing it if needed.
+	 *
+	 * @param type the type of the record
+	 * @param payload the number of bytes of the payload
+	 * @return the position of the type of the record in the buffer
+	 */
+	private int beginRecord(byte type, int payload) {
+		int size = 4 + 1 + payload + 4;
+
+		if(pending.remaining() < size) {
+			ByteBuffer bigger = ByteBuffer.allocate(Math.max(pending.capacity()*2, pending.position() + size));
+
+			pending.flip();
+			bigger.put(pending);
+			pending = bigger;
+		}
+
+		pending.putInt(1 + payload);
+		pending.put(type);
+
+		return pending.position() - 1;
+	}
+
+
+	/*
+	 * endRecord method.
+	 * ------
+	 * Finish a record by appending the CRC32 of its type and payload.
+	 *
+	 * @param start the position of the type of the record in the buffer
+	 */
+	private void endRecord(int start) {
+		crc.reset();
+		crc.update(pending.array(), start, pending.position() - start);
+
+		pending.putInt((int)crc.getValue());
+
+		records++;
+	}
+
+
+	/*
+	 * toNameBytes method.
+	 * ------
+	 * @param name the name of an event
+	 * @return the UTF-8 bytes of the name, cut to the 65535 bytes that a
+	 * 		   record can hold
+	 */
+	private static byte[] toNameBytes(String name) {
+		byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+
+		if(bytes.length <= 0xFFFF) return bytes;
+
+		byte[] cut = new byte[0xFFFF];
+
+		System.arraycopy(bytes, 0, cut, 0, cut.length);
+
+		return cut;
+	}
+
+
+	/*
+	 * putName method.
+	 * ------
+	 * @param name the UTF-8 bytes of a name, at most 65535 of them
+	 */
+	private void putName(byte[] name) {
+		pending.putShort((short)name.length);
+		pending.put(name);
+	}
+
+
+	/*
+	 * restore method.
+	 * ------
+	 * Add the event or recurring event of a record to an EventList.
+	 *
+	 * @param record the type and payload of the record
+	 * @param list the EventList the record is added to
+	 */
+	private static void restore(ByteBuffer record, EventList list) {
+		byte type = record.get();
+
+		if(type == EVENT_RECORD) {
+			LocalDate date = LocalDate.ofEpochDay(record.getInt());
+			TimeInterval t = new TimeInterval(record.getShort(), record.getShort());
+
+			list.addEvent(new Event(getName(record), date, t));
+		}
+		else if(type == RULE_RECORD) {
+			LocalDate from = LocalDate.ofEpochDay(record.getInt());
+			LocalDate to = LocalDate.ofEpochDay(record.getInt());
+			int dOWs = record.get();
+			TimeInterval t = new TimeInterval(record.getShort(), record.getShort());
+
+			list.addRecurringEvent(new RecurringEvent(getName(record), from, to, dOWs, t));
+		}
+	}
+
+
+	/*
+	 * getName method.
+	 * ------
+	 * @param record a record whose position is at a name
+	 * @return the name
+	 */
+	private static String getName(ByteBuffer record) {
+		byte[] bytes = new byte[record.getShort() & 0xFFFF];
+
+		record.get(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+
+	/*
+	 * writeHeader method.
+	 * ------
+	 * Write the magic number, the version and the generation at the start
+	 * of a new, empty file.
+	 *
+	 * @param ch the FileChannel of the file
+	 * @param gen the generation of the file
+	 */
+	private static void writeHeader(FileChannel ch, long gen) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+
+		header.putInt(MAGIC).putInt(VERSION).putLong(gen).flip();
+
+		while(header.hasRemaining()) {
+			ch.write(header, header.position());
+		}
+
+		ch.force(false);
+		ch.position(HEADER_BYTES);
+	}
+
+
+	/*
+	 * checkHeader method.
+	 * ------
+	 * Check that an existing file starts with the magic number and the
+	 * version of a journal, and read its generation.
+	 */
+	private void checkHeader() throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+
+		while(header.hasRemaining()) {
+			if(channel.read(header, header.position()) < 0) break;
+		}
+
+		header.flip();
+
+		if(header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION) {
+			throw new IOException(file.getName() + " is not a calendar journal");
+		}
+
+		generation = header.getLong();
+	}
+
+}
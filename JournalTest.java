@@ -0,0 +1,173 @@
+package project;
+import static org.junit.jupiter.api.Assertions.*;
+import static project.EventFixtures.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.nio.channels.FileChannel;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JournalTest {
+	private static final LocalDate DAY = LocalDate.of(2024, 1, 1);
+
+	private File file;
+
+	@BeforeEach
+	void createFile() throws IOException {
+		file = File.createTempFile("calendar", ".journal");
+		file.delete();
+	}
+
+	@AfterEach
+	void deleteFile() {
+		file.delete();
+		new File(file.getPath() + ".tmp").delete();
+	}
+
+	@Test
+	void replayRestoresTheRecordsInOrder() throws IOException {
+		EventList live = write(100);
+
+		EventList replayed = new EventList();
+		Journal journal = new Journal(file, Journal.SYNC_ALWAYS, 0);
+
+		journal.replay(replayed, journal.getStart(null));
+		journal.close();
+
+		LocalDate to = DAY.plusDays(1000);
+
+		assertEquals(describe(live.getEvents(DAY, to)), describe(replayed.getEvents(DAY, to)));
+	}
+
+	@Test
+	void tornTailIsDropped() throws IOException {
+		write(10);
+
+		long complete = file.length();
+
+		write(11);
+
+		// Half of the last record
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+
+		raf.setLength(complete + (raf.length() - complete)/2);
+		raf.close();
+
+		assertEquals(10, replayAndAppend().getEvents(DAY, DAY.plusDays(100)).size());
+	}
+
+	@Test
+	void damagedTailIsDropped() throws IOException {
+		write(10);
+
+		long complete = file.length();
+
+		write(11);
+
+		// A byte of the name of the last record
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+
+		raf.seek(raf.length() - 6);
+		int b = raf.read();
+		raf.seek(raf.length() - 6);
+		raf.write(b ^ 0x01);
+		raf.close();
+
+		EventList replayed = replayAndAppend();
+
+		assertEquals(10, replayed.getEvents(DAY, DAY.plusDays(10)).size());
+		assertTrue(file.length() > complete, "the record appended after the replay is kept");
+	}
+
+	@Test
+	void truncateKeepsTheRecordsAfterThePosition() throws IOException {
+		EventList live = write(20);
+		Journal journal = new Journal(file, Journal.SYNC_ALWAYS, 0);
+
+		journal.replay(new EventList(), journal.getStart(null));
+
+		long generation = journal.getGeneration();
+		Event after = new Event("After", DAY.plusDays(50), new TimeInterval(8*60, 9*60));
+		long position = journal.getPosition();
+
+		journal.appendEvent(after);
+		live.addEvent(after);
+
+		journal.truncate(position);
+		journal.close();
+
+		journal = new Journal(file, Journal.SYNC_ALWAYS, 0);
+
+		EventList replayed = new EventList();
+
+		journal.replay(replayed, journal.getStart(null));
+		journal.close();
+
+		assertEquals(generation + 1, journal.getGeneration());
+		assertEquals(1, replayed.getEvents(DAY, DAY.plusDays(100)).size());
+		assertEquals("After", replayed.getEvents(DAY.plusDays(50), DAY.plusDays(51)).get(0).getName());
+	}
+
+	@Test
+	void writeFailureIsThrownOnceAndTheRecordsAreKept() throws Exception {
+		Journal journal = new Journal(file, Journal.SYNC_ALWAYS, 0);
+
+		journal.replay(new EventList(), journal.getStart(null));
+
+		Field channel = Journal.class.getDeclaredField("channel");
+
+		channel.setAccessible(true);
+		((FileChannel)channel.get(journal)).close();
+
+		assertThrows(IOException.class, () -> journal.appendEvent(new Event("A", DAY, new TimeInterval(0, 30))));
+
+		journal.appendEvent(new Event("B", DAY.plusDays(1), new TimeInterval(0, 30)));
+
+		assertNotNull(journal.getFailure());
+		assertThrows(IOException.class, () -> journal.flush());
+		assertEquals(2, journal.getRecordCount());
+	}
+
+	/*
+	 * Journal events, one per day, up to a count, replaying what the file
+	 * holds first.
+	 */
+	private EventList write(int count) throws IOException {
+		EventList list = new EventList();
+		Journal journal = new Journal(file, Journal.SYNC_ALWAYS, 0);
+
+		journal.replay(list, journal.getStart(null));
+
+		for(int i = list.getEvents(DAY, DAY.plusDays(count)).size(); i < count; i++) {
+			Event e = new Event("Event " + i, DAY.plusDays(i), new TimeInterval(10*60, 11*60));
+
+			if(list.addEvent(e)) journal.appendEvent(e);
+		}
+
+		journal.close();
+
+		return list;
+	}
+
+	/*
+	 * Replay the file, then append an event after the last record kept.
+	 */
+	private EventList replayAndAppend() throws IOException {
+		EventList list = new EventList();
+		Journal journal = new Journal(file, Journal.SYNC_ALWAYS, 0);
+
+		journal.replay(list, journal.getStart(null));
+		journal.appendEvent(new Event("Appended", DAY.plusDays(200), new TimeInterval(0, 30)));
+		journal.close();
+
+		return list;
+	}
+
+}
@@ -0,0 +1,114 @@
+package project;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**************************************************************
+ * NameDictionary class.
+ *
+ * The names of all events of the program, each kept once and
+ * given an integer id. Every Event and RecurringEvent gives its
+ * name to the dictionary when it is created and keeps the copy
+ * of the dictionary instead, so the events of a file or of the
+ * journal that have the same name share a single String, however
+ * the name was read. The EventStore keeps the ids only.
+ *
+ * Looking up a name that is already in the dictionary takes no
+ * lock, so the threads of an import do not wait for each other;
+ * only adding a new name is synchronized.
+ *************************************************************/
+
+public class NameDictionary {
+	// Approximate size of a String and of its array of bytes, without the characters
+	private static final int STRING_BYTES = 40;
+
+	private static final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<String, Integer>();
+	private static volatile String[] names = new String[1024];
+	private static int size = 0;
+	private static final Object lock = new Object();
+
+	private static final LongAdder bytesSaved = new LongAdder();
+
+	/*
+	 * intern method.
+	 * ------
+	 * Get the copy of a name kept by the dictionary, adding it if needed.
+	 *
+	 * @param name the name of an event, or null
+	 * @return a String equal to name that is shared by every event with
+	 * 		   that name, or null
+	 */
+	public static String intern(String name) {
+		if(name == null) return null;
+
+		String shared = getName(getId(name));
+
+		if(shared != name) bytesSaved.add(STRING_BYTES + name.length());
+
+		return shared;
+	}
+
+
+	/*
+	 * getId method.
+	 * ------
+	 * @param name the name of an event
+	 * @return the id of the name, adding it to the dictionary if needed
+	 */
+	public static int getId(String name) {
+		Integer id = ids.get(name);
+
+		if(id != null) return id;
+
+		synchronized(lock) {
+			id = ids.get(name);
+
+			if(id != null) return id;
+
+			if(size == names.length) {
+				String[] bigger = new String[size*2];
+
+				System.arraycopy(names, 0, bigger, 0, size);
+				names = bigger;
+			}
+
+			// The name is in the array before its id can be looked up
+			names[size] = name;
+			ids.put(name, size);
+
+			return size++;
+		}
+	}
+
+
+	/*
+	 * getName method.
+	 * ------
+	 * @param id an id returned by getId
+	 * @return the name of that id
+	 */
+	public static String getName(int id) {
+		return names[id];
+	}
+
+
+	/*
+	 * size method.
+	 * ------
+	 * @return the number of distinct names in the dictionary
+	 */
+	public static int size() {
+		return ids.size();
+	}
+
+
+	/*
+	 * getBytesSaved method.
+	 * ------
+	 * @return an estimate of the memory, in bytes, of the copies of names
+	 * 		   that were dropped because the dictionary already had them
+	 */
+	public static long getBytesSaved() {
+		return bytesSaved.sum();
+	}
+
+}
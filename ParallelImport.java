@@ -0,0 +1,265 @@
+package project;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**************************************************************
+ * ParallelImport class.
+ *
+ * A fork-join task that parses a range of the chunks of a file
+ * into an ImportRun. The chunks are line-aligned byte ranges
+ * computed by FromFileToEvents.parseParallel. The range is split
+ * in two until a single chunk is left; that chunk is parsed into
+ * a run of its rules. The runs of the two halves are then joined,
+ * so the rules keep the order of the lines of the file.
+ * 
+ * A chunk is mapped in memory with FileChannel.map and its bytes
+ * are scanned directly for the separators and the ends of line. 
+ * Numbers and days of week are parsed in place; only the name of
+ * each event becomes a String. Nothing of the chunk is copied to
+ * the heap, so the import is bound by the disk rather than by the
+ * garbage collector.
+ *************************************************************/
+
+public class ParallelImport extends RecursiveTask<ImportRun> {
+	private static final long serialVersionUID = 6290385157721308214L;
+
+	private FileChannel channel;
+	private long[] bounds;
+	private int first;
+	private int last;
+	private Charset charset;
+	private AtomicLong linesParsed;
+
+	/*
+	 * Constructor method.
+	 * ------
+	 * Create a ParallelImport task for the chunks first to last - 1.
+	 *
+	 * @param ch the FileChannel of the file. It is only mapped, never
+	 * 		  read at its position, so the tasks can share it.
+	 * @param b the offsets of the chunks; chunk i goes from b[i] to
+	 * 		  b[i+1] - 1
+	 * @param f the index of the first chunk of the task
+	 * @param l the index after the last chunk of the task
+	 * @param cs the Charset of the file
+	 * @param lp a counter that every task adds the number of lines it 
+	 * 		  parsed to, so that the progress can be shown
+	 */
+	public ParallelImport(FileChannel ch, long[] b, int f, int l, Charset cs, AtomicLong lp) {
+		channel = ch;
+		bounds = b;
+		first = f;
+		last = l;
+		charset = cs;
+		linesParsed = lp;
+	}
+
+
+	/*
+	 * compute method.
+	 * ------
+	 * Parse the chunks of the task, splitting them between two subtasks
+	 * when there is more than one.
+	 *
+	 * @return an ImportRun of the chunks of the task
+	 * @throws UncheckedIOException if a chunk cannot be read or parsed
+	 */
+	@Override
+	protected ImportRun compute() {
+		if(last - first == 1) {
+			try {
+				return parseChunk();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		int mid = (first + last) >>> 1;
+
+		ParallelImport left = new ParallelImport(channel, bounds, first, mid, charset, linesParsed);
+		ParallelImport right = new ParallelImport(channel, bounds, mid, last, charset, linesParsed);
+
+		left.fork();
+
+		ImportRun r = right.compute();
+
+		return ImportRun.merge(left.join(), r);
+	}
+
+
+	/*
+	 * parseChunk method.
+	 * ------
+	 * Map the only chunk of the task in memory and parse its lines.
+	 *
+	 * @return an ImportRun of the lines of the chunk
+	 * @throws IOException if the chunk cannot be mapped or a line is not
+	 * 		   well formed
+	 */
+	private ImportRun parseChunk() throws IOException {
+		long start = bounds[first];
+		int length = (int)(bounds[last] - start);
+
+		ImportRun run = new ImportRun();
+
+		if(length == 0) return run;
+
+		MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+
+		int[] fields = new int[FromFileToEvents.FIELDS + 1];
+		int pos = 0;
+
+		while(pos < length) {
+			int eol = pos;
+
+			while(eol < length && buf.get(eol) != '\n') eol++;
+
+			int end = eol > pos && buf.get(eol - 1) == '\r' ? eol - 1 : eol;
+
+			if(!isBlank(buf, pos, end)) {
+				if(!split(buf, pos, end, fields)) {
+					throw new IOException("The line at byte " + (start + pos)
+											+ " does not have " + FromFileToEvents.FIELDS + " fields");
+				}
+
+				run.addRule(toRecurringEvent(buf, fields, start));
+			}
+
+			pos = eol + 1;
+		}
+
+		linesParsed.addAndGet(run.getRules().size());
+
+		return run;
+	}
+
+
+	/*
+	 * split method.
+	 * ------
+	 * Find the fields of a line of the chunk. Field i goes from fields[i]
+	 * to fields[i+1] - 1, the separator being skipped.
+	 *
+	 * @param buf the mapped chunk
+	 * @param from the index of the first byte of the line
+	 * @param to the index after the last byte of the line
+	 * @param fields an array of FromFileToEvents.FIELDS + 1 integers that
+	 * 		  receives the positions of the fields
+	 * @return false if the line has less than FromFileToEvents.FIELDS fields
+	 */
+	private static boolean split(MappedByteBuffer buf, int from, int to, int[] fields) {
+		fields[0] = from;
+
+		for(int i = 1; i <= FromFileToEvents.FIELDS; i++) {
+			int sep = fields[i - 1];
+
+			while(sep < to && buf.get(sep) != FromFileToEvents.SEPARATOR) sep++;
+
+			if(sep == to && i < FromFileToEvents.FIELDS) return false;
+
+			fields[i] = sep + 1;
+		}
+
+		return true;
+	}
+
+
+	/*
+	 * toRecurringEvent method.
+	 * ------
+	 * Parse a line of the chunk to a RecurringEvent, the same way as
+	 * FromFileToEvents.toRecurringEvent does for a line of text.
+	 *
+	 * @param buf the mapped chunk
+	 * @param fields the positions of the fields of the line found by split
+	 * @param start the offset of the chunk in the file, for error messages
+	 * @return a RecurringEvent that is parsed from the line
+	 * @throws IOException if a number of the line is not well formed
+	 */
+	private RecurringEvent toRecurringEvent(MappedByteBuffer buf, int[] fields, long start) 
+																	throws IOException {
+		byte[] nameBytes = new byte[fields[1] - 1 - fields[0]];
+
+		buf.get(fields[0], nameBytes);
+
+		String name = new String(nameBytes, charset);
+
+		int year = toInt(buf, fields[1], fields[2] - 1, start),
+			monthStart = toInt(buf, fields[2], fields[3] - 1, start),
+			monthEnd = toInt(buf, fields[3], fields[4] - 1, start),
+			hourStart = toInt(buf, fields[5], fields[6] - 1, start),
+			hourEnd = toInt(buf, fields[6], fields[7] - 1, start);
+
+		int dOWs = 0;
+
+		for(int i = fields[4]; i < fields[5] - 1; i++) {
+			int dOW = RecurringEvent.DAYS_OF_WEEK.indexOf(buf.get(i));
+
+			if(dOW >= 0) dOWs |= 1 << dOW;
+		}
+
+		LocalDate firstDayOfMonth = LocalDate.of(year, monthStart, 1);
+
+		LocalDate firstDayAfterLastMonth = LocalDate.of(year, monthEnd, 1).plusMonths(1);
+
+		return new RecurringEvent(name, firstDayOfMonth, firstDayAfterLastMonth,
+									dOWs, new TimeInterval(hourStart*60, hourEnd*60));
+	}
+
+
+	/*
+	 * toInt method.
+	 * ------
+	 * Parse a decimal number in the chunk without creating a String.
+	 *
+	 * @param buf the mapped chunk
+	 * @param from the index of the first digit
+	 * @param to the index after the last digit
+	 * @param start the offset of the chunk in the file, for error messages
+	 * @return the number
+	 * @throws IOException if the bytes are not a number
+	 */
+	private static int toInt(MappedByteBuffer buf, int from, int to, long start) throws IOException {
+		if(from >= to || to - from > 9) {
+			throw new IOException("Malformed number at byte " + (start + from));
+		}
+
+		int n = 0;
+
+		for(int i = from; i < to; i++) {
+			int digit = buf.get(i) - '0';
+
+			if(digit < 0 || digit > 9) {
+				throw new IOException("Malformed number at byte " + (start + from));
+			}
+
+			n = n*10 + digit;
+		}
+
+		return n;
+	}
+
+
+	/*
+	 * isBlank method.
+	 * ------
+	 * @param buf the mapped chunk
+	 * @param from the index of the first byte of a line
+	 * @param to the index after the last byte of the line
+	 * @return true if the line only has spaces and tabs
+	 */
+	private static boolean isBlank(MappedByteBuffer buf, int from, int to) {
+		for(int i = from; i < to; i++) {
+			if(buf.get(i) > ' ') return false;
+		}
+
+		return true;
+	}
+
+}
@@ -0,0 +1,56 @@
+package project;
+import java.time.LocalDate;
+
+import javax.swing.event.ChangeEvent;
+
+/**************************************************************
+ * PeriodChangeEvent class.
+ * 
+ * A ChangeEvent published by the StateMachine on the 
+ * PERIOD_CHANGED topic of the EventBus when its current period 
+ * changed.
+ *************************************************************/
+
+public class PeriodChangeEvent extends ChangeEvent {
+	private static final long serialVersionUID = 6120874203914570731L;
+	
+	private LocalDate firstDay;
+	private LocalDate lastDay;
+	
+	/* 
+	 * Constructor method.
+	 * ------
+	 * Create a PeriodChangeEvent object. 
+	 * 
+	 * @param source the StateMachine that publishes the event
+	 * @param from a LocalDate specifies the first day of the new period
+	 * @param to a LocalDate specifies the day after the last day of the 
+	 * 		  new period
+	 */
+	public PeriodChangeEvent(Object source, LocalDate from, LocalDate to) {
+		super(source);
+		
+		firstDay = from;
+		lastDay = to;
+	}
+	
+	
+	/* 
+	 * getFirstDay method.
+	 * ------
+	 * @return the first day of the new period
+	 */
+	public LocalDate getFirstDay() {
+		return firstDay;
+	}
+	
+	
+	/* 
+	 * getLastDay method.
+	 * ------
+	 * @return the day after the last day of the new period
+	 */
+	public LocalDate getLastDay() {
+		return lastDay;
+	}
+}
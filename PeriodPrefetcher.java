@@ -0,0 +1,98 @@
+package project;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import javax.swing.SwingWorker;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+
+/**************************************************************
+ * PeriodPrefetcher class.
+ *
+ * A ChangeListener subscribed to the PERIOD_CHANGED topic of the
+ * EventBus. After each change of the current period, it queries
+ * the events of the periods around it on a background thread so
+ * that they are in the RangeCache of the Data before the user
+ * browses to them.
+ *
+ * Functionality:
+ * 		- Guess the direction of the next shift from the last one:
+ * 		  the user usually keeps clicking the same BrowseButton.
+ * 		- Prefetch a number of periods (the depth) in that direction
+ * 		  and one period in the other direction.
+ * 		- Cancel the prefetch that is still running when the period
+ * 		  changes again.
+ *************************************************************/
+
+public class PeriodPrefetcher implements ChangeListener {
+	private Data data;
+	private StateMachine stateMachine;
+	private int depth;
+
+	private LocalDate lastFirstDay;
+	private SwingWorker<Void, Void> pendingPrefetch;
+
+	/*
+	 * Constructor method.
+	 * ------
+	 * Create a PeriodPrefetcher object.
+	 *
+	 * @param d the Data whose RangeCache is filled
+	 * @param sm the StateMachine that keeps track of the current period
+	 * @param dp an integer specifies the number of periods prefetched in the
+	 * 			 direction of the last shift
+	 */
+	public PeriodPrefetcher(Data d, StateMachine sm, int dp) {
+		data = d;
+		stateMachine = sm;
+		depth = dp;
+
+		lastFirstDay = stateMachine.getFirstDay();
+	}
+
+
+	/*
+	 * stateChanged method.
+	 * ------
+	 * Start prefetching the periods around the current period. The periods
+	 * are computed here, on the event dispatch thread, and only queried on
+	 * the background thread.
+	 *
+	 * @param e a PeriodChangeEvent published by the StateMachine
+	 */
+	@Override
+	public void stateChanged(ChangeEvent e) {
+		LocalDate firstDay = stateMachine.getFirstDay();
+
+		int ahead = firstDay.isBefore(lastFirstDay) ? ChangeTime.BACKWARD : ChangeTime.FORWARD;
+		int behind = -ahead;
+
+		lastFirstDay = firstDay;
+
+		final ArrayList<LocalDate[]> periods = new ArrayList<LocalDate[]>();
+
+		for(int i = 1; i <= depth; i++) {
+			periods.add(stateMachine.getShiftedPeriod(ahead, i));
+		}
+
+		if(depth > 0) periods.add(stateMachine.getShiftedPeriod(behind, 1));
+
+		if(pendingPrefetch != null) pendingPrefetch.cancel(false);
+
+		pendingPrefetch = new SwingWorker<Void, Void>() {
+
+			@Override
+			protected Void doInBackground() {
+				for(int i = 0; i < periods.size() && !isCancelled(); i++) {
+					data.prefetch(periods.get(i)[0], periods.get(i)[1]);
+				}
+
+				return null;
+			}
+
+		};
+
+		pendingPrefetch.execute();
+	}
+
+}
@@ -0,0 +1,167 @@
+package project;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**************************************************************
+ * RangeCache class.
+ * 
+ * A bounded cache of the events scheduled during the periods that
+ * have been displayed recently. The least recently used period is
+ * evicted when the cache is full.
+ * 
+ * Functionality: 
+ * 		- Return the events of a period that was looked up before
+ * 		  without querying the EventList again.
+ * 		- Evict only the periods that contain a day on which events
+ * 		  were added.
+ * 		- Count hits and misses so that its usefulness can be 
+ * 		  checked.
+ *************************************************************/
+
+public class RangeCache {
+	private LinkedHashMap<Period, Event[]> entries;
+	private int capacity;
+	
+	private long hits;
+	private long misses;
+	
+	/* 
+	 * Constructor method.
+	 * ------
+	 * Create an empty RangeCache object. 
+	 * 
+	 * @param c an integer specifies the maximum number of periods kept
+	 */
+	public RangeCache(int c) {
+		capacity = c;
+		
+		entries = new LinkedHashMap<Period, Event[]>(16, 0.75f, true) {
+			private static final long serialVersionUID = 3310271406318874962L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Period, Event[]> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+	
+	
+	/* 
+	 * get method.
+	 * ------
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @return the events of that period in chronological order, or null if 
+	 * 		   the period is not in the cache
+	 */
+	public Event[] get(LocalDate from, LocalDate to) {
+		Event[] evs = entries.get(new Period(from, to));
+		
+		if(evs == null) misses++;
+		else hits++;
+		
+		return evs;
+	}
+	
+	
+	/* 
+	 * contains method.
+	 * ------
+	 * Check whether a period is in the cache without counting a hit or a
+	 * miss.
+	 * 
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @return true if the events of that period are in the cache
+	 */
+	public boolean contains(LocalDate from, LocalDate to) {
+		return entries.containsKey(new Period(from, to));
+	}
+	
+	
+	/* 
+	 * put method.
+	 * ------
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @param evs an array of the events of that period in chronological order
+	 */
+	public void put(LocalDate from, LocalDate to, Event[] evs) {
+		entries.put(new Period(from, to), evs);
+	}
+	
+	
+	/* 
+	 * invalidate method.
+	 * ------
+	 * Evict every period that shares at least one day with a given period.
+	 * 
+	 * @param from a LocalDate specifies the first day of the changed period
+	 * @param to a LocalDate specifies the day after the last day of the 
+	 * 		  changed period
+	 */
+	public void invalidate(LocalDate from, LocalDate to) {
+		long f = from.toEpochDay(), t = to.toEpochDay();
+		
+		Iterator<Period> it = entries.keySet().iterator();
+		
+		while(it.hasNext()) {
+			Period p = it.next();
+			
+			if(p.from < t && f < p.to) it.remove();
+		}
+	}
+	
+	
+	/* 
+	 * getHits method.
+	 * ------
+	 * @return the number of lookups that were served from the cache
+	 */
+	public long getHits() {
+		return hits;
+	}
+	
+	
+	/* 
+	 * getMisses method.
+	 * ------
+	 * @return the number of lookups that were not in the cache
+	 */
+	public long getMisses() {
+		return misses;
+	}
+	
+	
+	/*************************************************************
+	 * Period class.
+	 * 
+	 * The key of a cached period: its first day and the day after 
+	 * its last day, as epoch days.
+	 *************************************************************/
+	private static class Period {
+		private long from;
+		private long to;
+		
+		public Period(LocalDate f, LocalDate t) {
+			from = f.toEpochDay();
+			to = t.toEpochDay();
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof Period)) return false;
+			
+			Period p = (Period)o;
+			
+			return from == p.from && to == p.to;
+		}
+		
+		@Override
+		public int hashCode() {
+			return Long.hashCode(from*31 + to);
+		}
+	}
+}
@@ -0,0 +1,273 @@
+package project;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+
+/**************************************************************
+ * RecurringEvent class.
+ *
+ * Represent a rule for an event that happens every week on some
+ * days of the week, at the same time, during a period of time.
+ * Only the rule is stored; the Events it stands for are created
+ * on demand for the period that is asked for.
+ *
+ * Functionality:
+ * 		- Tell whether the rule has an occurrence on a given day.
+ * 		- Create the Events of the occurrences within a period.
+ * 		- Skip single occurrences (for instance the ones that are
+ * 		  in conflict with other events of the calendar).
+ *************************************************************/
+
+public class RecurringEvent {
+	static public final String DAYS_OF_WEEK = "MTWHFAS";
+
+	private static final long[] NO_DAYS = new long[0];
+
+	private String name;
+	private long firstDay;
+	private long lastDay;
+	private int daysOfWeek;
+	private TimeInterval timeInterval;
+
+	// The skipped days in increasing order; a rule only skips a few
+	private long[] skippedDays;
+	private int skippedCount;
+
+	/*
+	 * Constructor method.
+	 * ------
+	 * Create a RecurringEvent object.
+	 *
+	 * @param n a string contains name of the event
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @param dOWs a string contains the days of week the event happens on,
+	 * 			   one letter of DAYS_OF_WEEK ("MTWHFAS") per day
+	 * @param t a TimeInterval object represents the time interval when each
+	 * 		    occurrence happens
+	 */
+	public RecurringEvent(String n, LocalDate from, LocalDate to, String dOWs, TimeInterval t) {
+		this(n, from, to, toDaysOfWeek(dOWs), t);
+	}
+
+
+	/*
+	 * Constructor method.
+	 * ------
+	 * Create a RecurringEvent object from days of week that were already
+	 * turned into a bit mask.
+	 *
+	 * @param n a string contains name of the event
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @param dOWs a bit mask of the days of week the event happens on; bit i
+	 * 			   stands for the day DAYS_OF_WEEK.charAt(i)
+	 * @param t a TimeInterval object represents the time interval when each
+	 * 		    occurrence happens
+	 */
+	RecurringEvent(String n, LocalDate from, LocalDate to, int dOWs, TimeInterval t) {
+		name = NameDictionary.intern(n);
+		firstDay = from.toEpochDay();
+		lastDay = to.toEpochDay();
+		timeInterval = t;
+		daysOfWeek = dOWs;
+
+		skippedDays = NO_DAYS;
+		skippedCount = 0;
+	}
+
+
+	/*
+	 * getName method.
+	 * ------
+	 * An accessor that returns the name of the event.
+	 * @return the name of the event
+	 */
+	public String getName() {
+		return name;
+	}
+
+
+	/*
+	 * getFirstDay method.
+	 * ------
+	 * @return a LocalDate specifies the first day of the period of the rule
+	 */
+	public LocalDate getFirstDay() {
+		return LocalDate.ofEpochDay(firstDay);
+	}
+
+
+	/*
+	 * getLastDay method.
+	 * ------
+	 * @return a LocalDate specifies the day after the last day of the period
+	 * 		   of the rule
+	 */
+	public LocalDate getLastDay() {
+		return LocalDate.ofEpochDay(lastDay);
+	}
+
+
+	/*
+	 * getFirstEpochDay method.
+	 * ------
+	 * @return the epoch day of the first day of the period of the rule
+	 */
+	long getFirstEpochDay() {
+		return firstDay;
+	}
+
+
+	/*
+	 * getLastEpochDay method.
+	 * ------
+	 * @return the epoch day after the last day of the period of the rule
+	 */
+	long getLastEpochDay() {
+		return lastDay;
+	}
+
+
+	/*
+	 * getTimeInterval method.
+	 * ------
+	 * @return the time interval of every occurrence
+	 */
+	public TimeInterval getTimeInterval() {
+		return timeInterval;
+	}
+
+
+	/*
+	 * getDaysOfWeek method.
+	 * ------
+	 * @return a bit mask of the days of week the rule occurs on; bit i
+	 * 		   stands for the day DAYS_OF_WEEK.charAt(i)
+	 */
+	int getDaysOfWeek() {
+		return daysOfWeek;
+	}
+
+
+	/*
+	 * occursOn method.
+	 * ------
+	 * @param day an epoch day
+	 * @return true if the rule has an occurrence that was not skipped on
+	 * 		   that day
+	 */
+	public boolean occursOn(long day) {
+		if(day < firstDay || day >= lastDay) return false;
+
+		if((daysOfWeek & (1 << dayOfWeek(day))) == 0) return false;
+
+		return skippedCount == 0 || Arrays.binarySearch(skippedDays, 0, skippedCount, day) < 0;
+	}
+
+
+	/*
+	 * skip method.
+	 * ------
+	 * Remove the occurrence on a day from the rule.
+	 *
+	 * @param day an epoch day
+	 */
+	public void skip(long day) {
+		int i = Arrays.binarySearch(skippedDays, 0, skippedCount, day);
+
+		if(i >= 0) return;
+
+		i = -i - 1;
+
+		if(skippedCount == skippedDays.length) {
+			skippedDays = Arrays.copyOf(skippedDays, Math.max(4, skippedCount*2));
+		}
+
+		System.arraycopy(skippedDays, i, skippedDays, i + 1, skippedCount - i);
+		skippedDays[i] = day;
+		skippedCount++;
+	}
+
+
+	/*
+	 * getSkippedDays method.
+	 * ------
+	 * @return the epoch days of the occurrences removed from the rule, in
+	 * 		   increasing order
+	 */
+	long[] getSkippedDays() {
+		return Arrays.copyOf(skippedDays, skippedCount);
+	}
+
+
+	/*
+	 * getEvent method.
+	 * ------
+	 * Create the Event of the occurrence of the rule on a day.
+	 *
+	 * @param day an epoch day on which the rule occurs
+	 * @return an Event for that occurrence
+	 */
+	public Event getEvent(long day) {
+		return new Event(name, LocalDate.ofEpochDay(day), timeInterval);
+	}
+
+
+	/*
+	 * getEvents method.
+	 * ------
+	 * Create the Events of the occurrences of the rule in a period of time.
+	 *
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @param result an ArrayList that the Events are appended to in
+	 * 		   chronologically order
+	 */
+	public void getEvents(LocalDate from, LocalDate to, ArrayList<Event> result) {
+		long start = Math.max(firstDay, from.toEpochDay());
+		long end = Math.min(lastDay, to.toEpochDay());
+
+		for(long day = start; day < end; day++) {
+			if(occursOn(day)) {
+				result.add(getEvent(day));
+			}
+		}
+	}
+
+
+	/*
+	 * toDaysOfWeek method.
+	 * ------
+	 * @param dOWs a string contains one letter of DAYS_OF_WEEK per day;
+	 * 			   other characters are ignored
+	 * @return a bit mask of those days; bit i stands for the day
+	 * 		   DAYS_OF_WEEK.charAt(i)
+	 */
+	static int toDaysOfWeek(String dOWs) {
+		int mask = 0;
+
+		for(int i = 0; i < dOWs.length(); i++) {
+			int dOW = DAYS_OF_WEEK.indexOf(dOWs.charAt(i));
+
+			if(dOW >= 0) mask |= 1 << dOW;
+		}
+
+		return mask;
+	}
+
+
+	/*
+	 * dayOfWeek method.
+	 * ------
+	 * @param day an epoch day
+	 * @return the index of the day of week of that day in DAYS_OF_WEEK,
+	 * 		   from 0 (Monday) to 6 (Sunday)
+	 */
+	static int dayOfWeek(long day) {
+		// 1970-01-01, epoch day 0, is a Thursday
+		return (int)Math.floorMod(day + 3, 7L);
+	}
+
+}
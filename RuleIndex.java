@@ -0,0 +1,244 @@
+package project;
+import java.util.ArrayList;
+
+/**************************************************************
+ * RuleIndex class.
+ * Auxiliary index of EventList. It finds the RecurringEvents
+ * whose period overlaps a period of days without looking at the
+ * other ones.
+ *
+ * The rules are kept in interval trees: treaps ordered by the
+ * first day of the rules, where every node also knows the latest
+ * last day below it, so that a search skips every subtree whose
+ * rules all end before the period. One tree holds all rules, for
+ * the periods shown by the views; seven more hold the rules of
+ * each day of the week, for the conflict checks of a single day.
+ *
+ * Functionality:
+ * 		- Add a rule in O(log n) for each tree it goes into.
+ * 		- Find the k rules of a period, or the rules of a day that
+ * 		  occur on its day of the week, in O(k log n) at worst,
+ * 		  whatever the number of the other rules.
+ *************************************************************/
+
+public class RuleIndex {
+	private static final int DAYS_PER_WEEK = 7;
+
+	private Node all;
+	private Node[] byDayOfWeek;
+	private int size;
+
+	private long seed;
+
+	/*
+	 * Constructor method.
+	 * ------
+	 * Create an empty RuleIndex object.
+	 */
+	public RuleIndex() {
+		byDayOfWeek = new Node[DAYS_PER_WEEK];
+		size = 0;
+		seed = 0x9E3779B97F4A7C15L;
+	}
+
+
+	/*
+	 * add method.
+	 * ------
+	 * Index a RecurringEvent. Its period and days of week must not change
+	 * afterwards; skipping occurrences is fine.
+	 *
+	 * @param r a RecurringEvent
+	 */
+	public void add(RecurringEvent r) {
+		all = insert(all, new Node(r, nextPriority()));
+
+		for(int dOW = 0; dOW < DAYS_PER_WEEK; dOW++) {
+			if((r.getDaysOfWeek() & (1 << dOW)) != 0) {
+				byDayOfWeek[dOW] = insert(byDayOfWeek[dOW], new Node(r, nextPriority()));
+			}
+		}
+
+		size++;
+	}
+
+
+	/*
+	 * size method.
+	 * ------
+	 * @return the number of rules indexed
+	 */
+	public int size() {
+		return size;
+	}
+
+
+	/*
+	 * find method.
+	 * ------
+	 * Find the rules whose period overlaps a period of days.
+	 *
+	 * @param from the epoch day of the first day of the period
+	 * @param to the epoch day after the last day of the period
+	 * @param result an ArrayList that the rules are appended to, in the
+	 * 		   order of their first days
+	 */
+	public void find(long from, long to, ArrayList<RecurringEvent> result) {
+		if(from < to) find(all, from, to, result);
+	}
+
+
+	/*
+	 * find method.
+	 * ------
+	 * Find the rules whose period includes a day and that occur on its
+	 * day of the week. Their occurrence on that day may have been skipped.
+	 *
+	 * @param day an epoch day
+	 * @param result an ArrayList that the rules are appended to, in the
+	 * 		   order of their first days
+	 */
+	public void find(long day, ArrayList<RecurringEvent> result) {
+		find(byDayOfWeek[RecurringEvent.dayOfWeek(day)], day, day + 1, result);
+	}
+
+
+	/*
+	 * find method.
+	 * ------
+	 * Append the rules of a subtree whose period overlaps a period of days,
+	 * in order.
+	 */
+	private static void find(Node node, long from, long to, ArrayList<RecurringEvent> result) {
+		while(node != null && node.maxLastDay > from) {
+			find(node.left, from, to, result);
+
+			if(node.firstDay >= to) return;
+
+			if(node.lastDay > from) result.add(node.rule);
+
+			node = node.right;
+		}
+	}
+
+
+	/*
+	 * insert method.
+	 * ------
+	 * Insert a node in a subtree, rotating it up while its priority is
+	 * higher than the one of its parent.
+	 *
+	 * @return the new root of the subtree
+	 */
+	private static Node insert(Node root, Node node) {
+		if(root == null) return node;
+
+		if(node.firstDay < root.firstDay) {
+			root.left = insert(root.left, node);
+
+			if(root.left.priority > root.priority) root = rotateRight(root);
+		}
+		else {
+			root.right = insert(root.right, node);
+
+			if(root.right.priority > root.priority) root = rotateLeft(root);
+		}
+
+		root.update();
+
+		return root;
+	}
+
+
+	/*
+	 * rotateRight method.
+	 * ------
+	 * @return the left child of root, which takes its place
+	 */
+	private static Node rotateRight(Node root) {
+		Node left = root.left;
+
+		root.left = left.right;
+		left.right = root;
+
+		root.update();
+		left.update();
+
+		return left;
+	}
+
+
+	/*
+	 * rotateLeft method.
+	 * ------
+	 * @return the right child of root, which takes its place
+	 */
+	private static Node rotateLeft(Node root) {
+		Node right = root.right;
+
+		root.right = right.left;
+		right.left = root;
+
+		root.update();
+		right.update();
+
+		return right;
+	}
+
+
+	/*
+	 * nextPriority method.
+	 * ------
+	 * @return a pseudo-random priority for a new node (xorshift)
+	 */
+	private int nextPriority() {
+		seed ^= seed << 13;
+		seed ^= seed >>> 7;
+		seed ^= seed << 17;
+
+		return (int)seed;
+	}
+
+
+	/*
+	 * Node class.
+	 * ------
+	 * A rule of a treap, with the latest last day of its subtree.
+	 */
+	private static class Node {
+		private RecurringEvent rule;
+		private long firstDay;
+		private long lastDay;
+		private long maxLastDay;
+		private int priority;
+		private Node left;
+		private Node right;
+
+		/*
+		 * Constructor method.
+		 * ------
+		 * Create a Node object with no child.
+		 */
+		Node(RecurringEvent r, int p) {
+			rule = r;
+			firstDay = r.getFirstEpochDay();
+			lastDay = r.getLastEpochDay();
+			maxLastDay = lastDay;
+			priority = p;
+		}
+
+
+		/*
+		 * update method.
+		 * ------
+		 * Compute the latest last day of the subtree from the children.
+		 */
+		void update() {
+			maxLastDay = lastDay;
+
+			if(left != null) maxLastDay = Math.max(maxLastDay, left.maxLastDay);
+			if(right != null) maxLastDay = Math.max(maxLastDay, right.maxLastDay);
+		}
+	}
+
+}
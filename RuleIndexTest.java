@@ -0,0 +1,87 @@
+package project;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RuleIndexTest {
+	private static final long DAY = LocalDate.of(2024, 1, 1).toEpochDay();
+
+	@Test
+	void findReturnsTheRulesOverlappingAPeriod() {
+		Random random = new Random(7);
+		ArrayList<RecurringEvent> rules = randomRules(random, 3000);
+		RuleIndex index = new RuleIndex();
+
+		for(RecurringEvent r : rules) index.add(r);
+
+		assertEquals(rules.size(), index.size());
+
+		for(int q = 0; q < 500; q++) {
+			long from = DAY + random.nextInt(800) - 50;
+			long to = from + 1 + random.nextInt(60);
+
+			ArrayList<RecurringEvent> found = new ArrayList<RecurringEvent>();
+			ArrayList<RecurringEvent> expected = new ArrayList<RecurringEvent>();
+
+			index.find(from, to, found);
+
+			for(RecurringEvent r : rules) {
+				if(r.getFirstEpochDay() < to && r.getLastEpochDay() > from) expected.add(r);
+			}
+
+			assertSameRules(expected, found);
+		}
+	}
+
+	@Test
+	void findOfADayReturnsTheRulesOccurringOnItsDayOfWeek() {
+		Random random = new Random(11);
+		ArrayList<RecurringEvent> rules = randomRules(random, 3000);
+		RuleIndex index = new RuleIndex();
+
+		for(RecurringEvent r : rules) index.add(r);
+
+		for(int q = 0; q < 500; q++) {
+			long day = DAY + random.nextInt(800) - 50;
+
+			ArrayList<RecurringEvent> found = new ArrayList<RecurringEvent>();
+			ArrayList<RecurringEvent> expected = new ArrayList<RecurringEvent>();
+
+			index.find(day, found);
+
+			for(RecurringEvent r : rules) {
+				if(r.occursOn(day)) expected.add(r);
+			}
+
+			assertSameRules(expected, found);
+		}
+	}
+
+	private static ArrayList<RecurringEvent> randomRules(Random random, int count) {
+		ArrayList<RecurringEvent> rules = new ArrayList<RecurringEvent>();
+
+		for(int i = 0; i < count; i++) {
+			LocalDate from = LocalDate.ofEpochDay(DAY + random.nextInt(700));
+			LocalDate to = from.plusDays(1 + random.nextInt(random.nextBoolean() ? 30 : 400));
+			int start = random.nextInt(23*60);
+
+			rules.add(new RecurringEvent("Rule " + i, from, to, 1 + random.nextInt(127),
+											new TimeInterval(start, start + 30)));
+		}
+
+		return rules;
+	}
+
+	private static void assertSameRules(ArrayList<RecurringEvent> expected, ArrayList<RecurringEvent> found) {
+		assertEquals(expected.size(), found.size());
+
+		for(RecurringEvent r : expected) {
+			assertTrue(found.contains(r), r.getName() + " is found");
+		}
+	}
+
+}
@@ -0,0 +1,693 @@
+package project;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**************************************************************
+ * Snapshot class.
+ *
+ * A read-only image of an EventList in a binary file, written
+ * every few minutes so that the whole Journal does not have to
+ * be replayed on startup. The file is laid out by columns rather
+ * than by events:
+ *
+ * 		- a header with the number of events, recurring events,
+ * 		  skipped days and names, and the generation of the Journal
+ * 		  and the position in it the snapshot was taken at;
+ * 		- the events as parallel columns of epoch days, start
+ * 		  minutes, end minutes and name ids, in chronological order;
+ * 		- the recurring events as parallel columns as well, in the
+ * 		  order of their first days, the days they skip being kept
+ * 		  in a column of their own;
+ * 		- an interval index of the recurring events: the latest last
+ * 		  day of every subtree of the balanced tree that is implicit
+ * 		  in their order;
+ * 		- a dictionary of the distinct names, in UTF-8;
+ * 		- a trailer with the CRC32 of everything before it.
+ *
+ * Opening a snapshot reads the file in memory, checks its CRC32
+ * and checks that every index in it points inside its column, so
+ * a damaged file is rejected before anything is read from it. The events of
+ * a period are found by a binary search on the column of days and
+ * only they become Event objects, and the recurring events of the
+ * period are found by a search of the interval index, the way
+ * RuleIndex finds them in memory. The first period is thus shown
+ * in the same time whatever the size of the calendar. The EventList
+ * is rebuilt from the snapshot in the background by load.
+ *************************************************************/
+
+public class Snapshot {
+	private static final int MAGIC = 0x43414c53;
+	private static final int VERSION = 4;
+	private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4*5;
+	private static final int TRAILER_BYTES = 4 + 4;
+
+	private static final int BUFFER_BYTES = 1 << 16;
+
+	private static final Comparator<RecurringEvent> FIRST_DAY_ORDER = new Comparator<RecurringEvent>() {
+		@Override
+		public int compare(RecurringEvent a, RecurringEvent b) {
+			return Long.compare(a.getFirstEpochDay(), b.getFirstEpochDay());
+		}
+	};
+
+	private ByteBuffer buf;
+	private long journalGeneration;
+	private long journalOffset;
+
+	private int eventCount;
+	private int ruleCount;
+	private int nameCount;
+
+	// Positions of the columns in the file
+	private int days, starts, ends, nameIds;
+	private int ruleFirstDays, ruleLastDays, ruleMasks, ruleStarts, ruleEnds, ruleNameIds, ruleMaxLastDays;
+	private int skipIndex, skippedDays;
+	private int nameOffsets, nameBytes;
+
+	private String[] names;
+
+	/*
+	 * Constructor method.
+	 * ------
+	 * Create a Snapshot object over a file read in memory, checking its header, its
+	 * CRC32 and its indexes, and finding its columns.
+	 *
+	 * @param b the whole file read in memory
+	 * @param file the File, for error messages
+	 * @throws IOException if the file is not a complete and valid snapshot
+	 */
+	private Snapshot(ByteBuffer b, File file) throws IOException {
+		buf = b;
+
+		if(buf.capacity() < HEADER_BYTES + TRAILER_BYTES || buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION) {
+			throw new IOException(file.getName() + " is not a calendar snapshot");
+		}
+
+		journalGeneration = buf.getLong(8);
+		journalOffset = buf.getLong(16);
+		eventCount = buf.getInt(24);
+		ruleCount = buf.getInt(28);
+		int skippedCount = buf.getInt(32);
+		nameCount = buf.getInt(36);
+		int nameByteCount = buf.getInt(40);
+
+		long size = HEADER_BYTES + 12L*eventCount + 21L*ruleCount + 4L*(ruleCount + 1)
+						+ 4L*skippedCount + 4L*(nameCount + 1) + nameByteCount + TRAILER_BYTES;
+
+		if(eventCount < 0 || ruleCount < 0 || skippedCount < 0 || nameCount < 0 || nameByteCount < 0
+				|| size != buf.capacity() || buf.getInt(buf.capacity() - 4) != MAGIC) {
+			throw new IOException(file.getName() + " is not a complete snapshot");
+		}
+
+		CRC32 crc = new CRC32();
+
+		crc.update(buf.duplicate().limit(buf.capacity() - TRAILER_BYTES));
+
+		if(buf.getInt(buf.capacity() - TRAILER_BYTES) != (int)crc.getValue()) {
+			throw new IOException(file.getName() + " is damaged");
+		}
+
+		days = HEADER_BYTES;
+		starts = days + 4*eventCount;
+		ends = starts + 2*eventCount;
+		nameIds = ends + 2*eventCount;
+
+		ruleFirstDays = nameIds + 4*eventCount;
+		ruleLastDays = ruleFirstDays + 4*ruleCount;
+		ruleMasks = ruleLastDays + 4*ruleCount;
+		ruleStarts = ruleMasks + ruleCount;
+		ruleEnds = ruleStarts + 2*ruleCount;
+		ruleNameIds = ruleEnds + 2*ruleCount;
+		ruleMaxLastDays = ruleNameIds + 4*ruleCount;
+
+		skipIndex = ruleMaxLastDays + 4*ruleCount;
+		skippedDays = skipIndex + 4*(ruleCount + 1);
+
+		nameOffsets = skippedDays + 4*skippedCount;
+		nameBytes = nameOffsets + 4*(nameCount + 1);
+
+		names = new String[nameCount];
+
+		if(!hasValidIndexes(skippedCount, nameByteCount)) {
+			throw new IOException(file.getName() + " has an index out of range");
+		}
+	}
+
+
+	/*
+	 * hasValidIndexes method.
+	 * ------
+	 * Check that every name id is in the dictionary, that the offsets of
+	 * the names and of the skipped days of each recurring event are in
+	 * order and inside their column, so that reading the snapshot cannot
+	 * fail afterwards, and that the interval index of the recurring events
+	 * is right, so that no occurrence is missed by getEvents.
+	 *
+	 * @param skippedCount the number of skipped days in the file
+	 * @param nameByteCount the number of bytes of the names in the file
+	 * @return true if the indexes of the file are valid
+	 */
+	private boolean hasValidIndexes(int skippedCount, int nameByteCount) {
+		if(!isIndexInOrder(nameOffsets, nameCount, nameByteCount)) return false;
+		if(!isIndexInOrder(skipIndex, ruleCount, skippedCount)) return false;
+
+		for(int i = 0; i < eventCount; i++) {
+			int id = buf.getInt(nameIds + 4*i);
+
+			if(id < 0 || id >= nameCount) return false;
+		}
+
+		for(int r = 0; r < ruleCount; r++) {
+			int id = buf.getInt(ruleNameIds + 4*r);
+
+			if(id < 0 || id >= nameCount) return false;
+
+			if(r > 0 && buf.getInt(ruleFirstDays + 4*r) < buf.getInt(ruleFirstDays + 4*(r - 1))) return false;
+		}
+
+		return checkMaxLastDays(0, ruleCount) != null;
+	}
+
+
+	/*
+	 * checkMaxLastDays method.
+	 * ------
+	 * Check the latest last days of a subtree of the interval index.
+	 *
+	 * @param from the index of the first recurring event of the subtree
+	 * @param to the index after the last recurring event of the subtree
+	 * @return the latest last day of the subtree, Integer.MIN_VALUE if it
+	 * 		   is empty, or null if the index is wrong
+	 */
+	private Integer checkMaxLastDays(int from, int to) {
+		if(from >= to) return Integer.MIN_VALUE;
+
+		int mid = (from + to) >>> 1;
+		Integer left = checkMaxLastDays(from, mid);
+		Integer right = checkMaxLastDays(mid + 1, to);
+
+		if(left == null || right == null) return null;
+
+		int max = Math.max(buf.getInt(ruleLastDays + 4*mid), Math.max(left, right));
+
+		return buf.getInt(ruleMaxLastDays + 4*mid) == max ? max : null;
+	}
+
+
+	/*
+	 * isIndexInOrder method.
+	 * ------
+	 * @param column the position of a column of count + 1 offsets
+	 * @param count the number of entries the offsets point to
+	 * @param total the size of the column the offsets point into
+	 * @return true if the offsets go from 0 to total without going back
+	 */
+	private boolean isIndexInOrder(int column, int count, int total) {
+		if(buf.getInt(column) != 0 || buf.getInt(column + 4*count) != total) return false;
+
+		for(int i = 0; i < count; i++) {
+			if(buf.getInt(column + 4*i) > buf.getInt(column + 4*(i + 1))) return false;
+		}
+
+		return true;
+	}
+
+
+	/*
+	 * open method.
+	 * ------
+	 * Read a snapshot file in memory. The file is read through its channel
+	 * rather than mapped, since checking the CRC32 reads all of it anyway,
+	 * and it is closed before this method returns, so that the Compactor
+	 * can replace it on every platform.
+	 *
+	 * @param file the File of the snapshot
+	 * @return a Snapshot, or null if the file does not exist
+	 * @throws IOException if the file cannot be read or is not a complete
+	 * 		   snapshot
+	 */
+	public static Snapshot open(File file) throws IOException {
+		if(!file.exists()) return null;
+
+		FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		ByteBuffer b;
+
+		try {
+			if(channel.size() > Integer.MAX_VALUE) {
+				throw new IOException(file.getName() + " is too large to be read");
+			}
+
+			b = ByteBuffer.allocate((int)channel.size());
+
+			while(b.hasRemaining()) {
+				if(channel.read(b) < 0) throw new IOException(file.getName() + " is not a complete snapshot");
+			}
+		} finally {
+			channel.close();
+		}
+
+		b.clear();
+
+		return new Snapshot(b, file);
+	}
+
+
+	/*
+	 * write method.
+	 * ------
+	 * Write a snapshot of an EventList. It is written to a temporary file
+	 * that then replaces the file, so that a snapshot is never left half
+	 * written. The recurring events are written in the order of their first
+	 * days, followed by their interval index.
+	 *
+	 * @param file the File of the snapshot
+	 * @param list the EventList. It must not be changed meanwhile.
+	 * @param generation the generation of the Journal
+	 * @param offset the position in the Journal after the last record
+	 * 		  that is in the list
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(File file, EventList list, long generation, long offset) throws IOException {
+		Collection<Event> events = list.getAllEvents();
+		ArrayList<RecurringEvent> rules = new ArrayList<RecurringEvent>(list.getRecurringEvents());
+
+		rules.sort(FIRST_DAY_ORDER);
+
+		HashMap<String, Integer> ids = new HashMap<String, Integer>();
+		ArrayList<byte[]> dictionary = new ArrayList<byte[]>();
+
+		int[] eventNameIds = new int[events.size()];
+		int i = 0;
+
+		for(Event e : events) {
+			eventNameIds[i++] = getNameId(e.getName(), ids, dictionary);
+		}
+
+		int[] ruleNameIds = new int[rules.size()];
+		long[][] skipped = new long[rules.size()][];
+		int skippedCount = 0;
+
+		int[] maxLastDays = new int[rules.size()];
+
+		indexRules(rules, 0, rules.size(), maxLastDays);
+
+		for(i = 0; i < rules.size(); i++) {
+			ruleNameIds[i] = getNameId(rules.get(i).getName(), ids, dictionary);
+			skipped[i] = rules.get(i).getSkippedDays();
+			skippedCount += skipped[i].length;
+		}
+
+		int nameByteCount = 0;
+
+		for(i = 0; i < dictionary.size(); i++) {
+			nameByteCount += dictionary.get(i).length;
+		}
+
+		File tmp = new File(file.getPath() + ".tmp");
+		FileOutputStream fos = new FileOutputStream(tmp);
+
+		try {
+			CRC32 crc = new CRC32();
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+										new CheckedOutputStream(fos, crc), BUFFER_BYTES));
+
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(generation);
+			out.writeLong(offset);
+			out.writeInt(events.size());
+			out.writeInt(rules.size());
+			out.writeInt(skippedCount);
+			out.writeInt(dictionary.size());
+			out.writeInt(nameByteCount);
+
+			for(Event e : events) out.writeInt((int)e.getDate().toEpochDay());
+			for(Event e : events) out.writeShort(e.getStartMinute());
+			for(Event e : events) out.writeShort(e.getEndMinute());
+			for(i = 0; i < eventNameIds.length; i++) out.writeInt(eventNameIds[i]);
+
+			for(i = 0; i < rules.size(); i++) out.writeInt((int)rules.get(i).getFirstDay().toEpochDay());
+			for(i = 0; i < rules.size(); i++) out.writeInt((int)rules.get(i).getLastDay().toEpochDay());
+			for(i = 0; i < rules.size(); i++) out.writeByte(rules.get(i).getDaysOfWeek());
+			for(i = 0; i < rules.size(); i++) out.writeShort(rules.get(i).getTimeInterval().getStartMinute());
+			for(i = 0; i < rules.size(); i++) out.writeShort(rules.get(i).getTimeInterval().getEndMinute());
+			for(i = 0; i < rules.size(); i++) out.writeInt(ruleNameIds[i]);
+			for(i = 0; i < rules.size(); i++) out.writeInt(maxLastDays[i]);
+
+			int skipOffset = 0;
+
+			for(i = 0; i < rules.size(); i++) {
+				out.writeInt(skipOffset);
+				skipOffset += skipped[i].length;
+			}
+
+			out.writeInt(skipOffset);
+
+			for(i = 0; i < rules.size(); i++) {
+				for(int j = 0; j < skipped[i].length; j++) out.writeInt((int)skipped[i][j]);
+			}
+
+			int nameOffset = 0;
+
+			for(i = 0; i < dictionary.size(); i++) {
+				out.writeInt(nameOffset);
+				nameOffset += dictionary.get(i).length;
+			}
+
+			out.writeInt(nameOffset);
+
+			for(i = 0; i < dictionary.size(); i++) out.write(dictionary.get(i));
+
+			out.flush();
+
+			out.writeInt((int)crc.getValue());
+			out.writeInt(MAGIC);
+			out.flush();
+
+			fos.getFD().sync();
+		} finally {
+			fos.close();
+		}
+
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+	}
+
+
+	/*
+	 * getJournalGeneration method.
+	 * ------
+	 * @return the generation of the Journal the snapshot was taken from
+	 */
+	public long getJournalGeneration() {
+		return journalGeneration;
+	}
+
+
+	/*
+	 * getJournalOffset method.
+	 * ------
+	 * @return the position in the Journal after the last record that is
+	 * 		   in the snapshot. The records from there have to be replayed.
+	 */
+	public long getJournalOffset() {
+		return journalOffset;
+	}
+
+
+	/*
+	 * getEventCount method.
+	 * ------
+	 * @return the number of events in the snapshot, recurring events
+	 * 		   excepted
+	 */
+	public int getEventCount() {
+		return eventCount;
+	}
+
+
+	/*
+	 * getRecurringEventCount method.
+	 * ------
+	 * @return the number of recurring events in the snapshot
+	 */
+	public int getRecurringEventCount() {
+		return ruleCount;
+	}
+
+
+	/*
+	 * getEvents method.
+	 * ------
+	 * Get the events of a period straight from the columns of the file, the way
+	 * EventList.getEvents does. It is safe to call from any thread.
+	 *
+	 * @param from a LocalDate specifies the first day of the period
+	 * @param to a LocalDate specifies the day after the last day of the period
+	 * @param result an ArrayList that the events of the period are appended
+	 * 		   to in chronological order
+	 */
+	public void getEvents(LocalDate from, LocalDate to, ArrayList<Event> result) {
+		if(!from.isBefore(to)) return;
+
+		long f = from.toEpochDay(), t = to.toEpochDay();
+		int first = result.size();
+
+		for(int i = lowerBound(days, 0, eventCount, f); i < eventCount && buf.getInt(days + 4*i) < t; i++) {
+			result.add(getEvent(i));
+		}
+
+		int stored = result.size();
+
+		findOccurrences(0, ruleCount, f, t, result);
+
+		if(result.size() > stored) result.subList(first, result.size()).sort(EventList.CHRONOLOGICAL_ORDER);
+	}
+
+
+	/*
+	 * load method.
+	 * ------
+	 * Put every event and recurring event of the snapshot into an empty
+	 * EventList, without checking them for conflicts again.
+	 *
+	 * @param list an empty EventList
+	 */
+	public void load(EventList list) {
+		for(int i = 0; i < eventCount; i++) {
+			list.restoreEvent(getEvent(i));
+		}
+
+		for(int r = 0; r < ruleCount; r++) {
+			RecurringEvent rule = new RecurringEvent(getName(buf.getInt(ruleNameIds + 4*r)),
+										LocalDate.ofEpochDay(buf.getInt(ruleFirstDays + 4*r)),
+										LocalDate.ofEpochDay(buf.getInt(ruleLastDays + 4*r)),
+										buf.get(ruleMasks + r) & 0xFF, getTimeInterval(r));
+
+			int skipTo = buf.getInt(skipIndex + 4*(r + 1));
+
+			for(int s = buf.getInt(skipIndex + 4*r); s < skipTo; s++) {
+				rule.skip(buf.getInt(skippedDays + 4*s));
+			}
+
+			list.restoreRecurringEvent(rule);
+		}
+	}
+
+
+	/*
+	 * getEvent method.
+	 * ------
+	 * @param i the index of an event in the columns
+	 * @return a new Event object of that event
+	 */
+	private Event getEvent(int i) {
+		return new Event(getName(buf.getInt(nameIds + 4*i)), LocalDate.ofEpochDay(buf.getInt(days + 4*i)),
+							new TimeInterval(buf.getShort(starts + 2*i), buf.getShort(ends + 2*i)));
+	}
+
+
+	/*
+	 * findOccurrences method.
+	 * ------
+	 * Append the occurrences during a period of the recurring events of a
+	 * subtree of the interval index. The subtrees whose rules all end
+	 * before the period and the rules that start after it are skipped, the
+	 * way RuleIndex.find does.
+	 *
+	 * @param lo the index of the first recurring event of the subtree
+	 * @param hi the index after the last recurring event of the subtree
+	 * @param from the epoch day of the first day of the period
+	 * @param to the epoch day after the last day of the period
+	 * @param result an ArrayList that the occurrences are appended to
+	 */
+	private void findOccurrences(int lo, int hi, long from, long to, ArrayList<Event> result) {
+		while(lo < hi) {
+			int mid = (lo + hi) >>> 1;
+
+			if(buf.getInt(ruleMaxLastDays + 4*mid) <= from) return;
+
+			findOccurrences(lo, mid, from, to, result);
+
+			if(buf.getInt(ruleFirstDays + 4*mid) >= to) return;
+
+			getOccurrences(mid, from, to, result);
+
+			lo = mid + 1;
+		}
+	}
+
+
+	/*
+	 * getOccurrences method.
+	 * ------
+	 * Append the occurrences of a recurring event during a period, the
+	 * way RecurringEvent.getEvents does.
+	 *
+	 * @param r the index of a recurring event in the columns
+	 * @param from the epoch day of the first day of the period
+	 * @param to the epoch day after the last day of the period
+	 * @param result an ArrayList that the occurrences are appended to
+	 */
+	private void getOccurrences(int r, long from, long to, ArrayList<Event> result) {
+		long first = Math.max(from, buf.getInt(ruleFirstDays + 4*r));
+		long last = Math.min(to, buf.getInt(ruleLastDays + 4*r));
+
+		if(first >= last) return;
+
+		int mask = buf.get(ruleMasks + r);
+		int skipTo = buf.getInt(skipIndex + 4*(r + 1));
+		int s = lowerBound(skippedDays, buf.getInt(skipIndex + 4*r), skipTo, first);
+
+		String name = null;
+		TimeInterval t = null;
+
+		for(long day = first; day < last; day++) {
+			if((mask & (1 << RecurringEvent.dayOfWeek(day))) == 0) continue;
+
+			while(s < skipTo && buf.getInt(skippedDays + 4*s) < day) s++;
+
+			if(s < skipTo && buf.getInt(skippedDays + 4*s) == day) continue;
+
+			if(name == null) {
+				name = getName(buf.getInt(ruleNameIds + 4*r));
+				t = getTimeInterval(r);
+			}
+
+			result.add(new Event(name, LocalDate.ofEpochDay(day), t));
+		}
+	}
+
+
+	/*
+	 * getTimeInterval method.
+	 * ------
+	 * @param r the index of a recurring event in the columns
+	 * @return a new TimeInterval of its occurrences
+	 */
+	private TimeInterval getTimeInterval(int r) {
+		return new TimeInterval(buf.getShort(ruleStarts + 2*r), buf.getShort(ruleEnds + 2*r));
+	}
+
+
+	/*
+	 * getName method.
+	 * ------
+	 * Decode a name of the dictionary of the file the first time it is
+	 * needed, and share it through the NameDictionary.
+	 *
+	 * @param id the index of the name in the dictionary
+	 * @return the name
+	 */
+	private String getName(int id) {
+		String name = names[id];
+
+		if(name == null) {
+			int from = buf.getInt(nameOffsets + 4*id);
+			byte[] bytes = new byte[buf.getInt(nameOffsets + 4*(id + 1)) - from];
+
+			buf.get(nameBytes + from, bytes);
+
+			name = NameDictionary.intern(new String(bytes, StandardCharsets.UTF_8));
+			names[id] = name;
+		}
+
+		return name;
+	}
+
+
+	/*
+	 * lowerBound method.
+	 * ------
+	 * Binary search in a sorted column of integers.
+	 *
+	 * @param column the position of the column in the file
+	 * @param from the index of the first value to search
+	 * @param to the index after the last value to search
+	 * @param value the value searched
+	 * @return the index of the first value that is not less than value,
+	 * 		   or to if there is none
+	 */
+	private int lowerBound(int column, int from, int to, long value) {
+		while(from < to) {
+			int mid = (from + to) >>> 1;
+
+			if(buf.getInt(column + 4*mid) < value) {
+				from = mid + 1;
+			}
+			else {
+				to = mid;
+			}
+		}
+
+		return from;
+	}
+
+
+	/*
+	 * indexRules method.
+	 * ------
+	 * Compute the interval index of recurring events sorted by their first
+	 * days. The recurring event in the middle of a range is the root of the
+	 * subtree of that range, and its entry is the latest last day of the
+	 * subtree.
+	 *
+	 * @param rules the RecurringEvents, in the order of their first days
+	 * @param from the index of the first recurring event of the subtree
+	 * @param to the index after the last recurring event of the subtree
+	 * @param maxLastDays the index, by recurring event
+	 * @return the latest last day of the subtree, or Integer.MIN_VALUE if
+	 * 		   it is empty
+	 */
+	private static int indexRules(ArrayList<RecurringEvent> rules, int from, int to, int[] maxLastDays) {
+		if(from >= to) return Integer.MIN_VALUE;
+
+		int mid = (from + to) >>> 1;
+		int max = (int)rules.get(mid).getLastEpochDay();
+
+		max = Math.max(max, indexRules(rules, from, mid, maxLastDays));
+		max = Math.max(max, indexRules(rules, mid + 1, to, maxLastDays));
+
+		maxLastDays[mid] = max;
+
+		return max;
+	}
+
+
+	/*
+	 * getNameId method.
+	 * ------
+	 * @param name the name of an event
+	 * @param ids the ids of the names already in the dictionary
+	 * @param dictionary the UTF-8 bytes of the names, by id
+	 * @return the id of the name, adding it to the dictionary if needed
+	 */
+	private static int getNameId(String name, HashMap<String, Integer> ids, ArrayList<byte[]> dictionary) {
+		Integer id = ids.get(name);
+
+		if(id == null) {
+			id = dictionary.size();
+			ids.put(name, id);
+			dictionary.add(name.getBytes(StandardCharsets.UTF_8));
+		}
+
+		return id;
+	}
+
+}
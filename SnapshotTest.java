@@ -0,0 +1,169 @@
+package project;
+import static org.junit.jupiter.api.Assertions.*;
+import static project.EventFixtures.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SnapshotTest {
+	private static final LocalDate DAY = LocalDate.of(2024, 1, 1);
+
+	private File snapshotFile;
+	private File journalFile;
+
+	@BeforeEach
+	void createFiles() throws IOException {
+		snapshotFile = File.createTempFile("calendar", ".snapshot");
+		journalFile = File.createTempFile("calendar", ".journal");
+
+		snapshotFile.delete();
+		journalFile.delete();
+	}
+
+	@AfterEach
+	void deleteFiles() {
+		snapshotFile.delete();
+		journalFile.delete();
+		new File(journalFile.getPath() + ".tmp").delete();
+	}
+
+	@Test
+	void snapshotAndJournalRestoreTheLiveList() throws IOException {
+		EventList live = new EventList();
+		Journal journal = new Journal(journalFile, Journal.SYNC_NEVER, 1000);
+
+		add(live, journal, 0, 2000);
+
+		// A snapshot taken midway, then more events journaled after it
+		journal.flush();
+		Snapshot.write(snapshotFile, live, journal.getGeneration(), journal.getPosition());
+
+		add(live, journal, 2000, 3000);
+		journal.close();
+
+		Snapshot snapshot = Snapshot.open(snapshotFile);
+		EventList restored = new EventList();
+
+		snapshot.load(restored);
+
+		journal = new Journal(journalFile, Journal.SYNC_NEVER, 1000);
+		journal.replay(restored, journal.getStart(snapshot));
+		journal.close();
+
+		LocalDate to = DAY.plusDays(400);
+
+		assertEquals(describe(live.getEvents(DAY, to)), describe(restored.getEvents(DAY, to)));
+	}
+
+	@Test
+	void snapshotServesTheEventsItWasWrittenFrom() throws IOException {
+		EventList live = new EventList();
+
+		add(live, null, 0, 1500);
+		Snapshot.write(snapshotFile, live, 0, 0);
+
+		Snapshot snapshot = Snapshot.open(snapshotFile);
+
+		for(int d = 0; d < 400; d += 30) {
+			ArrayList<Event> evs = new ArrayList<Event>();
+
+			snapshot.getEvents(DAY.plusDays(d), DAY.plusDays(d + 7), evs);
+
+			assertEquals(describe(live.getEvents(DAY.plusDays(d), DAY.plusDays(d + 7))), describe(evs));
+		}
+	}
+
+	@Test
+	void snapshotFindsTheRulesOfAnyPeriod() throws IOException {
+		Random random = new Random(11);
+		EventList live = new EventList();
+
+		// Rules of every length, so that long rules hide among short ones
+		for(int i = 0; i < 600; i++) {
+			int first = random.nextInt(700);
+			int length = i%50 == 0 ? 400 + random.nextInt(300) : 1 + random.nextInt(20);
+			int start = random.nextInt(23*60);
+
+			live.addRecurringEvent(new RecurringEvent("Rule " + i, DAY.plusDays(first), DAY.plusDays(first + length),
+											"MTWHFAS", new TimeInterval(start, start + 30)));
+		}
+
+		Snapshot.write(snapshotFile, live, 0, 0);
+
+		Snapshot snapshot = Snapshot.open(snapshotFile);
+
+		for(int q = 0; q < 300; q++) {
+			LocalDate from = DAY.plusDays(random.nextInt(800) - 50);
+			LocalDate to = from.plusDays(q%10 == 0 ? random.nextInt(120) : random.nextInt(8));
+			ArrayList<Event> evs = new ArrayList<Event>();
+
+			snapshot.getEvents(from, to, evs);
+
+			assertEquals(describe(live.getEvents(from, to)), describe(evs));
+		}
+	}
+
+	@Test
+	void damagedSnapshotIsRejected() throws IOException {
+		EventList live = new EventList();
+
+		add(live, null, 0, 100);
+		Snapshot.write(snapshotFile, live, 0, 0);
+
+		RandomAccessFile raf = new RandomAccessFile(snapshotFile, "rw");
+
+		raf.seek(raf.length()/2);
+		int b = raf.read();
+		raf.seek(raf.length()/2);
+		raf.write(b ^ 0x10);
+		raf.close();
+
+		assertThrows(IOException.class, () -> Snapshot.open(snapshotFile));
+	}
+
+	@Test
+	void truncatedSnapshotIsRejected() throws IOException {
+		EventList live = new EventList();
+
+		add(live, null, 0, 100);
+		Snapshot.write(snapshotFile, live, 0, 0);
+
+		RandomAccessFile raf = new RandomAccessFile(snapshotFile, "rw");
+
+		raf.setLength(raf.length() - 5);
+		raf.close();
+
+		assertThrows(IOException.class, () -> Snapshot.open(snapshotFile));
+	}
+
+	/*
+	 * Add events and recurring events, some in conflict, to a list and
+	 * journal what was added.
+	 */
+	private static void add(EventList list, Journal journal, int from, int to) throws IOException {
+		for(int i = from; i < to; i++) {
+			int start = (i*37)%(23*60);
+			Event e = new Event("Event " + i%50, DAY.plusDays(i%365), new TimeInterval(start, start + 45));
+
+			if(list.addEvent(e) && journal != null) journal.appendEvent(e);
+
+			if(i%100 == 0) {
+				RecurringEvent r = new RecurringEvent("Rule " + i, DAY.plusDays(i%300), DAY.plusDays(i%300 + 60),
+											"MWF", new TimeInterval(9*60, 10*60));
+
+				list.addRecurringEvent(r);
+
+				if(journal != null) journal.appendRecurringEvent(r);
+			}
+		}
+	}
+
+}
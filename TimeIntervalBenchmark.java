@@ -0,0 +1,150 @@
+package project;
+import java.lang.management.ManagementFactory;
+
+/**************************************************************
+ * TimeIntervalBenchmark class.
+ *
+ * A command line benchmark of TimeInterval. It compares the two
+ * constructors, from hh:mm strings and from minutes, and the
+ * compareTo of the minutes parsed once with the parsing of the
+ * strings at every comparison that TimeInterval used to do. It
+ * prints the best time and the bytes allocated per operation of
+ * each, the allocations being read from the ThreadMXBean of the
+ * JVM.
+ *
+ * Usage: java project.TimeIntervalBenchmark [operations] [repetitions]
+ *************************************************************/
+
+public class TimeIntervalBenchmark {
+	public static final int DEFAULT_OPERATIONS = 1000000;
+	public static final int DEFAULT_REPETITIONS = 5;
+
+	private static final int SIZE = 1024;
+
+	// Keeps the results alive so that the JIT cannot drop the work
+	private static long sink;
+
+	//Main method
+	public static void main(String[] args) {
+		int operations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_OPERATIONS;
+		int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_REPETITIONS;
+
+		final String[] times = new String[SIZE];
+		final int[] minutes = new int[SIZE];
+		final TimeInterval[] intervals = new TimeInterval[SIZE];
+
+		for(int i = 0; i < SIZE; i++) {
+			minutes[i] = (i*37)%(23*60);
+			times[i] = minutes[i]/60 + ":" + minutes[i]%60;
+			intervals[i] = new TimeInterval(minutes[i], minutes[i] + 30);
+		}
+
+		System.out.println(operations + " operations per run");
+
+		run("new TimeInterval(String, String)", operations, repetitions, new Operation() {
+			@Override
+			public long apply(int i) {
+				return new TimeInterval(times[i], times[i + 1]).getEndMinute();
+			}
+		});
+
+		run("new TimeInterval(int, int)", operations, repetitions, new Operation() {
+			@Override
+			public long apply(int i) {
+				return new TimeInterval(minutes[i], minutes[i + 1]).getEndMinute();
+			}
+		});
+
+		run("compareTo, parsing the strings", operations, repetitions, new Operation() {
+			@Override
+			public long apply(int i) {
+				return compareParsing(intervals[i], intervals[i + 1]);
+			}
+		});
+
+		run("compareTo", operations, repetitions, new Operation() {
+			@Override
+			public long apply(int i) {
+				return intervals[i].compareTo(intervals[i + 1]);
+			}
+		});
+	}
+
+
+	/*
+	 * run method.
+	 * ------
+	 * Time an operation and count what it allocates, printing the best of
+	 * a few runs. The first run warms up the JIT and is not counted.
+	 *
+	 * @param name the name of the operation
+	 * @param operations the number of operations of a run
+	 * @param repetitions the number of runs counted
+	 * @param op the Operation
+	 */
+	private static void run(String name, int operations, int repetitions, Operation op) {
+		com.sun.management.ThreadMXBean bean = 
+				(com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+
+		long best = Long.MAX_VALUE;
+		long bytes = 0;
+
+		for(int r = 0; r <= repetitions; r++) {
+			long allocated = bean.getThreadAllocatedBytes(thread);
+			long start = System.nanoTime();
+
+			for(int i = 0; i < operations; i++) {
+				sink += op.apply(i%(SIZE - 1));
+			}
+
+			long time = System.nanoTime() - start;
+
+			bytes = bean.getThreadAllocatedBytes(thread) - allocated;
+
+			if(r > 0) best = Math.min(best, time);
+		}
+
+		System.out.printf("%-34s %8.1f ns/op, %6.1f bytes/op%n", name, 
+							(double)best/operations, (double)bytes/operations);
+	}
+
+
+	/*
+	 * compareParsing method.
+	 * ------
+	 * Compare two TimeIntervals the way compareTo did before the minutes
+	 * were parsed at construction.
+	 */
+	private static int compareParsing(TimeInterval a, TimeInterval b) {
+		if(toInt(a.getEndTime()) <= toInt(b.getStartTime())) return -1;
+
+		if(toInt(a.getStartTime()) >= toInt(b.getEndTime())) return 1;
+
+		return 0;
+	}
+
+
+	/*
+	 * toInt method.
+	 * ------
+	 * @param timeS a string represents time in format hh:mm
+	 * @return the minutes from midnight to that time
+	 */
+	private static int toInt(String timeS) {
+		String [] timeSArr = timeS.split(":");
+
+		return Integer.parseInt(timeSArr[0])*60 + Integer.parseInt(timeSArr[1]);
+	}
+
+
+	/*
+	 * Operation interface.
+	 * ------
+	 * An operation on the i-th TimeInterval of the benchmark.
+	 */
+	private interface Operation {
+		long apply(int i);
+	}
+
+}
@@ -0,0 +1,36 @@
+package project;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class TimeIntervalTest {
+
+	@Test
+	void minutesAreFormattedAsHoursAndMinutes() {
+		TimeInterval t = new TimeInterval(9*60 + 5, 17*60);
+
+		assertEquals("09:05", t.getStartTime());
+		assertEquals("17:00", t.getEndTime());
+		assertEquals("09:05 - 17:00", t.toString());
+		assertEquals("00:00", new TimeInterval(0, 24*60).getStartTime());
+		assertEquals("24:00", new TimeInterval(0, 24*60).getEndTime());
+	}
+
+	@Test
+	void stringsAreParsedIntoMinutes() {
+		TimeInterval t = new TimeInterval("9:05", "17:30");
+
+		assertEquals(9*60 + 5, t.getStartMinute());
+		assertEquals(17*60 + 30, t.getEndMinute());
+	}
+
+	@Test
+	void compareToTellsOrderAndConflicts() {
+		TimeInterval morning = new TimeInterval("9:00", "10:00");
+
+		assertEquals(-1, morning.compareTo(new TimeInterval("10:00", "11:00")));
+		assertEquals(1, morning.compareTo(new TimeInterval("8:00", "9:00")));
+		assertEquals(0, morning.compareTo(new TimeInterval("9:30", "10:30")));
+	}
+
+}
@@ -0,0 +1,42 @@
+package project;
+import javax.swing.event.ChangeEvent;
+
+/**************************************************************
+ * ViewChangeEvent class.
+ * 
+ * A ChangeEvent published by the StateMachine on the 
+ * VIEW_CHANGED topic of the EventBus when its current view 
+ * changed.
+ *************************************************************/
+
+public class ViewChangeEvent extends ChangeEvent {
+	private static final long serialVersionUID = -4822591300472235216L;
+	
+	private int view;
+	
+	/* 
+	 * Constructor method.
+	 * ------
+	 * Create a ViewChangeEvent object. 
+	 * 
+	 * @param source the StateMachine that publishes the event
+	 * @param v an integer equal to one of the view constants of the 
+	 * 			StateMachine
+	 */
+	public ViewChangeEvent(Object source, int v) {
+		super(source);
+		
+		view = v;
+	}
+	
+	
+	/* 
+	 * getView method.
+	 * ------
+	 * @return the new view, equal to one of DAY_VIEW, WEEK_VIEW, 
+	 * 		   MONTH_VIEW, and AGENDA_VIEW of the StateMachine
+	 */
+	public int getView() {
+		return view;
+	}
+}
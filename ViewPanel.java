@@ -1,333 +1,735 @@
-package project;
-import java.awt.BorderLayout;
-import java.awt.Color;
-import java.awt.Dimension;
-import java.awt.event.MouseEvent;
-import java.awt.event.MouseListener;
-import java.time.LocalDate;
-
-import javax.swing.Box;
-import javax.swing.BoxLayout;
-import javax.swing.JLabel;
-import javax.swing.JOptionPane;
-import javax.swing.JPanel;
-import javax.swing.border.EmptyBorder;
-import javax.swing.event.ChangeEvent;
-import javax.swing.event.ChangeListener;
-
-/*************************************************************
- * ViewPanel class.
- * 
- * A JPanel that displays list of Events depends on the current
- * state of the StateMachine. It implements ChangeListener to 
- * listen to any change in StateMachine.
- * 
- * This JPanel is the View part of the MVC pattern.
- *************************************************************/
-
-public class ViewPanel extends JPanel implements ChangeListener {
-	private static final long serialVersionUID = 7007726725143511365L;
-	
-	
-	
-	private static final int GAP = 2;
-	
-	private static final String TIME_FORMAT_WITH_DOW 
-									= Event.DAY_OF_WEEK + " - "
-										+ Event.MONTH + " "
-										+ Event.DAY_OF_MONTH + ", "
-										+ Event.YEAR;
-	private static final String TIME_FORMAT_WITHOUT_DOW 
-									= 	  Event.MONTH + " "
-										+ Event.DAY_OF_MONTH + ", "
-										+ Event.YEAR;
-		
-	private Data data;
-	private EventPopUp eventPopUp;
-	
-	private int width;
-	
-	
-	private StateMachine stateMachine;
-	
-	/* 
-	 * Constructor method.
-	 * ------
-	 * Create a ViewPanel object: 
-	 * 		- Set the ViewPanel to BoxLayout so that it can show the
-	 * 		  list of event vertically.
-	 * 		- Set background color to white
-	 * 		- Get the current list of events from the Data object.
-	 * 		- Generate the content of the ViewPanel based on the
-	 * 		  list of events.
-	 * 
-	 * @param d the main Data object that stores all events of the program.
-	 * @param sm the StateMachine that keeps track of the current state of
-	 * 			 the program. 
-	 */
-	public ViewPanel(Data d, StateMachine sm, EventPopUp eP) {
-		super(); 
-		
-		data = d;
-		eventPopUp = eP;
-		
-		width = Constants.VIEW_PANEL_WIDTH;
-		
-		
-		stateMachine = sm;
-		
-		setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
-		setBackground(Color.WHITE);
-		
-		
-		Event [] evs = data.getEvents();
-	
-		
-		setContent(evs);
-			
-	}
-
-	/* 
-	 * stateChanged method.
-	 * ------
-	 * This method is from the ChangeListener interface. It will be called
-	 * from the StateMachine when there is any change. When being called, it
-	 * will get the current set of events from the Data object and use it to
-	 * reset the content of the ViewPanel.
-	 * 
-	 * @param e a ChangeEvent emitted by the StateMachine.
-	 */
-	@Override
-	public void stateChanged(ChangeEvent e) {
-		Event [] evs = data.getEvents();
-				
-		setContent(evs);
-		
-	}
-	
-	
-	/* 
-	 * setContent method.
-	 * ------
-	 * This method gets an array of Event objects as a parameter and then
-	 * sets the content of the ViewPanel to list all events represented by
-	 * these objects.
-	 * 
-	 * @param evs an array of Events. These Events will be displays in the
-	 * 			  ViewPanel.
-	 */
-	private void setContent(Event [] evs) {
-		removeAll();
-		revalidate();
-		
-
-		
-		if(evs[0] == null) {
-			JLabel lb = new JLabel("No event scheduled during this period");
-			add(lb);
-			return;
-		}
-		
-		
-		int currentView = stateMachine.getCurrentView();
-		
-		LocalDate currentDate = evs[0].getDate();
-		
-		String timeFormat = (currentView == StateMachine.WEEK_VIEW)?
-								TIME_FORMAT_WITH_DOW :
-								TIME_FORMAT_WITHOUT_DOW;
-		
-		
-		if(currentView != StateMachine.DAY_VIEW) {
-			addTimeTab(evs[0], timeFormat);
-			add(Box.createVerticalStrut(2));
-		}
-		
-		
-
-		for(int i = 0; i < evs.length; i++) {
-			if(currentView != StateMachine.DAY_VIEW && 
-					!currentDate.isEqual(evs[i].getDate())) {
-				
-				currentDate = evs[i].getDate();
-			
-				addTimeTab(evs[i], timeFormat);
-				add(Box.createVerticalStrut(2));
-			}
-			
-			addEventTab(evs[i], i);
-		}
-		
-		add(Box.createVerticalStrut(20));
-
-		repaint();
-	}
-	
-
-	/* 
-	 * addEventTab method.
-	 * ------
-	 * This method create an EventTab from an Event object.
-	 * 
-	 * @param e an Event that is used to create an EventTab.
-	 * @param id an integer specifies the index of the EventTab
-	 * 			 in the ViewPanel. It is used to determine the
-	 * 			 background color of the EventTab (based on whether
-	 * 			 its index is even or odd).
-	 */
-	private void addEventTab(Event e, int id) {
-		EventTab eT = new EventTab(e, width, id);
-		add(eT);
-				
-	}
-	
-	/* 
-	 * addTimeTab method.
-	 * ------
-	 * This method create a TimeTab - a JPanel showing time in a specified 
-	 * format.
-	 * 
-	 * @param e      an Event whose time information is used to create the TimeTab.
-	 * @param format the string specifies the format of the string in the TimeTab.
-	 */
-	private void addTimeTab(Event e, String format) {
-		add(Box.createVerticalStrut(15));
-		
-		JPanel tPanel = new JPanel();
-		
-		tPanel.setMaximumSize(new Dimension(width, Constants.TAB_HEIGHT));
-		tPanel.setLayout(new BorderLayout(GAP, GAP));
-		
-		JLabel tLabel = new JLabel(e.getFormattedTime(format));
-		tLabel.setMaximumSize(new Dimension(width/2, Constants.TAB_HEIGHT));
-		tLabel.setFont(Constants.CALENDAR_TIME_TAB_FONT);
-		
-		tLabel.setBorder(new EmptyBorder(0,10, 0, 0));
-		tPanel.add(tLabel, BorderLayout.WEST);
-		
-		add(tPanel);
-		
-		
-	}
-	
-	
-	/*************************************************************
-	 * EventTab class.
-	 * 
-	 * A JPanel that displays information of one Event.
-	 * This EventTab is a 1-row-table with the left cell showing the 
-	 * time interval of the event and the right cell showing the right 
-	 * interval of the event.  
-	 *************************************************************/
- 	private class EventTab extends JPanel {
-		
-		private static final long serialVersionUID = -1218632455876253400L;
-		
-		private Event event;
-		
-		/* 
-		 * Constructor method.
-		 * ------
-		 * Create an EventTab:
-		 * 		- Set the layout to BorderLayout.
-		 * 		- Create and add the JLabel showing time interval to BorderLayout.WEST.
-		 * 		- Create and add the JLabel showing time interval to BorderLayout.CENTER.
-		 * 		- Set the background color of the EventTab depending of whether its index
-		 * 		  is even or odd.
-		 * 		- Set other alignment and outlook properties.
-		 * 
-		 * @param e an Event object that is used to create the EventTab
-		 * @param width an integer specifies the width of the EventTab.
-		 * @param id an integer specifies the index order of the EventTab
-		 * 			 in the ViewPanel.
-		 */
-		public EventTab(Event e, int width, int id) {
-			super();
-			
-			event = e;
-			
-			String time = e.getTimeInterval();
-			String name = e.getName();
-			
-			setMaximumSize(new Dimension(width, Constants.TAB_HEIGHT));
-			
-			setLayout(new BorderLayout(GAP,GAP));
-			
-			JLabel tLabel = new JLabel(time);
-			JLabel nLabel = new JLabel(name);
-			
-			Color lColor;
-			
-			if(id%2 == 0) {
-				lColor = Constants.EVEN_EVENT_TAB_COLOR;
-			}
-			else {
-				lColor = Constants.ODD_EVENT_TAB_COLOR;
-			}
-			
-			tLabel.setOpaque(true);
-			nLabel.setOpaque(true);
-			
-			tLabel.setBackground(lColor);
-			nLabel.setBackground(lColor);
-			
-			nLabel.setBorder(new EmptyBorder(0,10, 0, 0));
-			tLabel.setBorder(new EmptyBorder(0,10, 0, 0));
-			
-			tLabel.setPreferredSize(new Dimension(width/3, 30));
-			
-			
-			add(tLabel, BorderLayout.WEST);
-			add(nLabel, BorderLayout.CENTER);
-			
-			
-			setBackground(Color.WHITE);
-			
-			addMouseListener(getMouseListener());
-		}
-
-		/* 
-		 * getMouseListener method.
-		 * ------
-		 * Create a MouseListener that will listen to the click on this
-		 * EventTab and then show the pop-up window that has detail of
-		 * the event corresponding to this EventTab.
-		 * 
-		 * @return a MouseListener to be added to this EventTab. 
-		 */
-		private MouseListener getMouseListener() {
-			MouseListener ml = new MouseListener() {
-
-				@Override
-				public void mouseClicked(MouseEvent me) {
-					JPanel popup = eventPopUp.getPanel(event);
-					
-					JOptionPane.showMessageDialog(null, popup, "Event Detail", 
-									JOptionPane.PLAIN_MESSAGE);
-					
-				}
-
-				@Override
-				public void mousePressed(MouseEvent e) {}
-
-				@Override
-				public void mouseReleased(MouseEvent e) {}
-
-				@Override
-				public void mouseEntered(MouseEvent e) {}
-
-				@Override
-				public void mouseExited(MouseEvent e) {}
-				
-			};
-			
-			return ml;
-		}
-		
-		
-		
-	}
-
-
-	
-}
+package project;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+
+import javax.swing.AbstractListModel;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.ListCellRenderer;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingWorker;
+import javax.swing.border.EmptyBorder;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+
+/*************************************************************
+ * ViewPanel class.
+ * 
+ * A JPanel that displays list of Events depends on the current
+ * state of the StateMachine. It implements ChangeListener to 
+ * listen to any change in StateMachine.
+ * 
+ * The events of the current period are queried on a background 
+ * thread with a SwingWorker and displayed when the query is done.
+ * A query that is still running when the period changes again is
+ * cancelled and its result is dropped. The time the event dispatch
+ * thread spends on each navigation is recorded.
+ * 
+ * The events are shown in a JList with a fixed row height. Its 
+ * RowRenderer stamps the rows that are visible in the scroll pane 
+ * with the same few components, so the cost of displaying a period 
+ * does not depend on how many events it has.
+ * 
+ * When the Data emits a DataChangeEvent, only the rows of the days
+ * that were changed are replaced, and the JList is told about the 
+ * rows that differ only.
+ * 
+ * This JPanel is the View part of the MVC pattern.
+ *************************************************************/
+
+public class ViewPanel extends JPanel implements ChangeListener {
+	private static final long serialVersionUID = 7007726725143511365L;
+	
+	
+	
+	private static final int GAP = 2;
+	
+	private static final int ROW_HEIGHT = Constants.TAB_HEIGHT + GAP;
+	
+	private static final String TIME_FORMAT_WITH_DOW 
+									= Event.DAY_OF_WEEK + " - "
+										+ Event.MONTH + " "
+										+ Event.DAY_OF_MONTH + ", "
+										+ Event.YEAR;
+	private static final String TIME_FORMAT_WITHOUT_DOW 
+									= 	  Event.MONTH + " "
+										+ Event.DAY_OF_MONTH + ", "
+										+ Event.YEAR;
+		
+	private Data data;
+	private EventPopUp eventPopUp;
+	
+	private int width;
+	
+	
+	private StateMachine stateMachine;
+	
+	private RowModel rowModel;
+	private JList<Event> rowList;
+	private JLabel emptyLabel;
+	
+	// The query whose result is not in the rows yet. It is only cleared at
+	// the end of its done(), which runs a while after doInBackground returns
+	private SwingWorker<Event[], Void> pendingQuery;
+	private LocalDate queryFirstDay;
+	private LocalDate queryLastDay;
+	private int queryView;
+	private long navigationNanos;
+	private long lastEdtBlockNanos;
+	private long maxEdtBlockNanos;
+	
+	/* 
+	 * Constructor method.
+	 * ------
+	 * Create a ViewPanel object: 
+	 * 		- Set the ViewPanel to BorderLayout and create the JList that
+	 * 		  shows the list of event vertically.
+	 * 		- Set background color to white
+	 * 		- Start a query for the current list of events from the Data 
+	 * 		  object. The content of the ViewPanel is generated from the
+	 * 		  list of events when the query is done.
+	 * 
+	 * @param d the main Data object that stores all events of the program.
+	 * @param sm the StateMachine that keeps track of the current state of
+	 * 			 the program. 
+	 */
+	public ViewPanel(Data d, StateMachine sm, EventPopUp eP) {
+		super(); 
+		
+		data = d;
+		eventPopUp = eP;
+		
+		width = Constants.VIEW_PANEL_WIDTH;
+		
+		
+		stateMachine = sm;
+		
+		setLayout(new BorderLayout());
+		setBackground(Color.WHITE);
+		
+		rowModel = new RowModel();
+		
+		rowList = new JList<Event>(rowModel);
+		rowList.setFixedCellHeight(ROW_HEIGHT);
+		rowList.setFixedCellWidth(width);
+		rowList.setCellRenderer(new RowRenderer());
+		rowList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+		rowList.addMouseListener(getMouseListener());
+		
+		emptyLabel = new JLabel("No event scheduled during this period");
+		
+		
+		refresh();
+			
+	}
+
+	/* 
+	 * stateChanged method.
+	 * ------
+	 * This method is from the ChangeListener interface. It will be called
+	 * from the EventBus when the current view or period changes. When being 
+	 * called, it will start a query for the current set of events of the 
+	 * Data object. The content of the ViewPanel is reset when the query is 
+	 * done.
+	 * 
+	 * If the ChangeEvent is a DataChangeEvent published by the Data, only 
+	 * the days that were changed are updated.
+	 * 
+	 * @param e a ChangeEvent published by the StateMachine or the Data.
+	 */
+	@Override
+	public void stateChanged(ChangeEvent e) {
+		if(e instanceof DataChangeEvent) {
+			patch((DataChangeEvent)e);
+		}
+		else {
+			refresh();
+		}
+		
+	}
+	
+	
+	/* 
+	 * getLastEdtBlockMillis method.
+	 * ------
+	 * @return the time, in milliseconds, that the event dispatch thread 
+	 * 		   spent on the last navigation: starting the query and then 
+	 * 		   setting the content from its result.
+	 */
+	public double getLastEdtBlockMillis() {
+		return lastEdtBlockNanos/1e6;
+	}
+	
+	
+	/* 
+	 * getMaxEdtBlockMillis method.
+	 * ------
+	 * @return the longest time, in milliseconds, that the event dispatch 
+	 * 		   thread spent on a single navigation.
+	 */
+	public double getMaxEdtBlockMillis() {
+		return maxEdtBlockNanos/1e6;
+	}
+	
+	
+	/* 
+	 * refresh method.
+	 * ------
+	 * This method cancels the query that is still running, if any, and 
+	 * starts a new query for the events of the current period of the 
+	 * StateMachine on a background thread. Nothing is done if the running
+	 * query is already for the current view and period, which happens when
+	 * the view and the period change at the same time.
+	 */
+	private void refresh() {
+		long start = System.nanoTime();
+		
+		final LocalDate from = stateMachine.getFirstDay();
+		final LocalDate to = stateMachine.getLastDay();
+		int view = stateMachine.getCurrentView();
+		
+		if(pendingQuery != null) {
+			if(from.isEqual(queryFirstDay) && to.isEqual(queryLastDay) 
+					&& view == queryView) return;
+			
+			pendingQuery.cancel(true);
+		}
+		
+		queryFirstDay = from;
+		queryLastDay = to;
+		queryView = view;
+		
+		pendingQuery = new SwingWorker<Event[], Void>() {
+
+			@Override
+			protected Event[] doInBackground() {
+				return data.getEvents(from, to);
+			}
+			
+			@Override
+			protected void done() {
+				if(isCancelled() || pendingQuery != this) return;
+				
+				long doneStart = System.nanoTime();
+				
+				try {
+					setContent(get());
+				} catch (InterruptedException | ExecutionException e) {
+					return;
+				} finally {
+					pendingQuery = null;
+				}
+				
+				recordEdtBlock(navigationNanos + System.nanoTime() - doneStart);
+			}
+			
+		};
+		
+		pendingQuery.execute();
+		
+		navigationNanos = System.nanoTime() - start;
+	}
+	
+	
+	/* 
+	 * patch method.
+	 * ------
+	 * This method updates the rows of the days changed in the Data that
+	 * are inside the current period. Events that were added one by one are
+	 * inserted straight into the rows; otherwise the changed days are 
+	 * queried again on a background thread. If the result of a query is
+	 * not in the rows yet, it may have missed the new events, so the query
+	 * is restarted instead; this is the case until its done() has run, 
+	 * even if it has already returned.
+	 * 
+	 * @param dce a DataChangeEvent emitted by the Data.
+	 */
+	private void patch(DataChangeEvent dce) {
+		LocalDate first = stateMachine.getFirstDay();
+		LocalDate last = stateMachine.getLastDay();
+		
+		final LocalDate from = dce.getFirstDay().isAfter(first) ? dce.getFirstDay() : first;
+		final LocalDate to = dce.getLastDay().isBefore(last) ? dce.getLastDay() : last;
+		
+		if(!from.isBefore(to)) return;
+		
+		if(pendingQuery != null) {
+			pendingQuery.cancel(true);
+			pendingQuery = null;
+			refresh();
+			return;
+		}
+		
+		Event[] added = dce.getAddedEvents();
+		
+		if(added != null) {
+			ArrayList<Event> visible = new ArrayList<Event>();
+			
+			for(int i = 0; i < added.length; i++) {
+				if(!added[i].getDate().isBefore(from) && added[i].getDate().isBefore(to)) 
+					visible.add(added[i]);
+			}
+			
+			rowModel.insertEvents(visible);
+			showRows();
+			return;
+		}
+		
+		queryFirstDay = from;
+		queryLastDay = to;
+		queryView = stateMachine.getCurrentView();
+		
+		pendingQuery = new SwingWorker<Event[], Void>() {
+
+			@Override
+			protected Event[] doInBackground() {
+				return data.getEvents(from, to);
+			}
+			
+			@Override
+			protected void done() {
+				if(isCancelled() || pendingQuery != this) return;
+				
+				try {
+					rowModel.replaceDays(from, to, get());
+				} catch (InterruptedException | ExecutionException e) {
+					return;
+				} finally {
+					pendingQuery = null;
+				}
+				
+				showRows();
+			}
+			
+		};
+		
+		pendingQuery.execute();
+	}
+	
+	
+	/* 
+	 * recordEdtBlock method.
+	 * ------
+	 * @param nanos the time, in nanoseconds, that the event dispatch thread 
+	 * 		  spent on a navigation.
+	 */
+	private void recordEdtBlock(long nanos) {
+		lastEdtBlockNanos = nanos;
+		maxEdtBlockNanos = Math.max(maxEdtBlockNanos, nanos);
+	}
+	
+	
+	/* 
+	 * setContent method.
+	 * ------
+	 * This method gets an array of Event objects as a parameter and then
+	 * sets the content of the ViewPanel to list all events represented by
+	 * these objects. Only the rows of the JList model are rebuilt; no 
+	 * component is created per event.
+	 * 
+	 * @param evs an array of Events. These Events will be displays in the
+	 * 			  ViewPanel.
+	 */
+	private void setContent(Event [] evs) {
+		int currentView = stateMachine.getCurrentView();
+		
+		String timeFormat = (currentView == StateMachine.WEEK_VIEW)?
+								TIME_FORMAT_WITH_DOW :
+								TIME_FORMAT_WITHOUT_DOW;
+		
+		rowModel.setEvents(evs, currentView != StateMachine.DAY_VIEW, timeFormat);
+		
+		showRows();
+	}
+	
+	
+	/* 
+	 * showRows method.
+	 * ------
+	 * Show the JList, or a label saying that nothing is scheduled if the
+	 * JList has no row.
+	 */
+	private void showRows() {
+		Component content = (rowModel.getSize() == 0) ? emptyLabel : rowList;
+		
+		if(getComponentCount() == 1 && getComponent(0) == content) return;
+		
+		removeAll();
+		
+		if(content == emptyLabel) {
+			add(emptyLabel, BorderLayout.NORTH);
+		}
+		else {
+			add(rowList, BorderLayout.CENTER);
+		}
+		
+		revalidate();
+		repaint();
+	}
+	
+	
+	/* 
+	 * getMouseListener method.
+	 * ------
+	 * Create a MouseListener that will listen to the click on a row of
+	 * the JList and then show the pop-up window that has detail of the 
+	 * event corresponding to this row.
+	 * 
+	 * @return a MouseListener to be added to the JList. 
+	 */
+	private MouseListener getMouseListener() {
+		MouseListener ml = new MouseAdapter() {
+
+			@Override
+			public void mouseClicked(MouseEvent me) {
+				int row = rowList.locationToIndex(me.getPoint());
+				
+				if(row < 0 || rowModel.isTimeRow(row) 
+						|| !rowList.getCellBounds(row, row).contains(me.getPoint())) return;
+				
+				JPanel popup = eventPopUp.getPanel(rowModel.getElementAt(row));
+				
+				JOptionPane.showMessageDialog(null, popup, "Event Detail", 
+								JOptionPane.PLAIN_MESSAGE);
+				
+			}
+			
+		};
+		
+		return ml;
+	}
+	
+	
+	/*************************************************************
+	 * RowModel class.
+	 * 
+	 * The ListModel of the JList. Its rows are the events of the
+	 * current period and, except in DAY_VIEW, one time row before 
+	 * the events of each day. A time row returns the first event
+	 * of its day, which is used to format the date.
+	 *************************************************************/
+	private class RowModel extends AbstractListModel<Event> {
+		
+		private static final long serialVersionUID = 5171939170302425126L;
+		
+		private Event[] events = new Event[0];
+		
+		// rows[r] is the index of the event of row r, or -(i + 1) if row r
+		// is the time row before event i.
+		private int[] rows = new int[0];
+		
+		private String timeFormat = TIME_FORMAT_WITHOUT_DOW;
+		private boolean timeRows = false;
+		
+		/* 
+		 * setEvents method.
+		 * ------
+		 * Replace the rows of the model.
+		 * 
+		 * @param evs an array of Events in chronological order.
+		 * @param withTimeRows true if a time row is added before the events
+		 * 		  of each day.
+		 * @param format the string specifies the format of the time rows.
+		 */
+		public void setEvents(Event[] evs, boolean withTimeRows, String format) {
+			boolean restyled = !format.equals(timeFormat) || withTimeRows != timeRows;
+			
+			timeFormat = format;
+			timeRows = withTimeRows;
+			
+			update(evs);
+			
+			if(restyled && rows.length > 0) fireContentsChanged(this, 0, rows.length - 1);
+		}
+		
+		/* 
+		 * insertEvents method.
+		 * ------
+		 * Insert events into the rows in chronological order.
+		 * 
+		 * @param added an ArrayList of Events that are not in the model yet.
+		 */
+		public void insertEvents(ArrayList<Event> added) {
+			if(added.size() == 0) return;
+			
+			added.sort(EventList.CHRONOLOGICAL_ORDER);
+			
+			Event[] evs = new Event[events.length + added.size()];
+			int i = 0, a = 0, k = 0;
+			
+			while(i < events.length || a < added.size()) {
+				if(a == added.size() || (i < events.length 
+						&& EventList.CHRONOLOGICAL_ORDER.compare(events[i], added.get(a)) <= 0)) {
+					evs[k++] = events[i++];
+				}
+				else {
+					evs[k++] = added.get(a++);
+				}
+			}
+			
+			update(evs);
+		}
+		
+		/* 
+		 * replaceDays method.
+		 * ------
+		 * Replace the events of some days.
+		 * 
+		 * @param from a LocalDate specifies the first day to replace
+		 * @param to a LocalDate specifies the day after the last day to replace
+		 * @param dayEvents an array of the Events of these days in 
+		 * 		  chronological order.
+		 */
+		public void replaceDays(LocalDate from, LocalDate to, Event[] dayEvents) {
+			int lo = firstEventOn(from);
+			int hi = firstEventOn(to);
+			
+			Event[] evs = new Event[lo + dayEvents.length + events.length - hi];
+			
+			System.arraycopy(events, 0, evs, 0, lo);
+			System.arraycopy(dayEvents, 0, evs, lo, dayEvents.length);
+			System.arraycopy(events, hi, evs, lo + dayEvents.length, events.length - hi);
+			
+			update(evs);
+		}
+		
+		/* 
+		 * firstEventOn method.
+		 * ------
+		 * @param date a LocalDate
+		 * @return the index of the first event scheduled on or after date
+		 */
+		private int firstEventOn(LocalDate date) {
+			int lo = 0, hi = events.length;
+			
+			while(lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				
+				if(events[mid].getDate().isBefore(date)) lo = mid + 1;
+				else hi = mid;
+			}
+			
+			return lo;
+		}
+		
+		/* 
+		 * update method.
+		 * ------
+		 * Rebuild the rows from a new array of events and notify the JList
+		 * of the rows between the first and the last row that changed.
+		 * 
+		 * @param evs an array of Events in chronological order.
+		 */
+		private void update(Event[] evs) {
+			Event[] oldEvents = events;
+			int[] oldRows = rows;
+			
+			int[] newRows = new int[timeRows ? 2*evs.length : evs.length];
+			int r = 0;
+			
+			for(int i = 0; i < evs.length; i++) {
+				if(timeRows && (i == 0 || !evs[i].getDate().isEqual(evs[i - 1].getDate()))) {
+					newRows[r++] = -(i + 1);
+				}
+				
+				newRows[r++] = i;
+			}
+			
+			events = evs;
+			rows = Arrays.copyOf(newRows, r);
+			
+			int prefix = 0;
+			
+			while(prefix < oldRows.length && prefix < rows.length
+					&& sameRow(oldEvents, oldRows[prefix], rows[prefix])) {
+				prefix++;
+			}
+			
+			int suffix = 0;
+			
+			while(suffix < oldRows.length - prefix && suffix < rows.length - prefix
+					&& sameRow(oldEvents, oldRows[oldRows.length - 1 - suffix], 
+								rows[rows.length - 1 - suffix])) {
+				suffix++;
+			}
+			
+			if(oldRows.length - suffix > prefix) 
+				fireIntervalRemoved(this, prefix, oldRows.length - suffix - 1);
+			
+			if(rows.length - suffix > prefix) 
+				fireIntervalAdded(this, prefix, rows.length - suffix - 1);
+			
+			// The colors of the event rows after the change may have swapped.
+			if(suffix > 0 && oldRows.length != rows.length)
+				fireContentsChanged(this, rows.length - suffix, rows.length - 1);
+		}
+		
+		/* 
+		 * sameRow method.
+		 * ------
+		 * @param oldEvents the array of events before the update
+		 * @param oldRow a row before the update
+		 * @param newRow a row after the update
+		 * @return true if both rows show the same event the same way
+		 */
+		private boolean sameRow(Event[] oldEvents, int oldRow, int newRow) {
+			if((oldRow < 0) != (newRow < 0)) return false;
+			
+			Event oldE = oldEvents[oldRow < 0 ? -oldRow - 1 : oldRow];
+			Event newE = events[newRow < 0 ? -newRow - 1 : newRow];
+			
+			return oldE == newE;
+		}
+		
+		@Override
+		public int getSize() {
+			return rows.length;
+		}
+		
+		@Override
+		public Event getElementAt(int row) {
+			int i = rows[row];
+			
+			return events[i < 0 ? -i - 1 : i];
+		}
+		
+		/* 
+		 * isTimeRow method.
+		 * ------
+		 * @param row the index of a row
+		 * @return true if the row shows the date of the events below it
+		 */
+		public boolean isTimeRow(int row) {
+			return rows[row] < 0;
+		}
+		
+		/* 
+		 * getEventIndex method.
+		 * ------
+		 * @param row the index of a row that is not a time row
+		 * @return the index of its event among the events of the period
+		 */
+		public int getEventIndex(int row) {
+			return rows[row];
+		}
+		
+		/* 
+		 * getTimeFormat method.
+		 * ------
+		 * @return the string specifies the format of the time rows
+		 */
+		public String getTimeFormat() {
+			return timeFormat;
+		}
+	}
+	
+
+	/*************************************************************
+	 * RowRenderer class.
+	 * 
+	 * The ListCellRenderer of the JList. It owns one time tab and
+	 * one event tab and fills them with the data of the row being
+	 * painted. The event tab is a 1-row-table with the left cell 
+	 * showing the time interval of the event and the right cell 
+	 * showing the name of the event.
+	 *************************************************************/
+ 	private class RowRenderer implements ListCellRenderer<Event> {
+		
+		private JPanel timeTab;
+		private JLabel timeLabel;
+		
+		private JPanel eventTab;
+		private JLabel tLabel;
+		private JLabel nLabel;
+		
+		/* 
+		 * Constructor method.
+		 * ------
+		 * Create a RowRenderer:
+		 * 		- Create the time tab, a JPanel holding a JLabel that shows
+		 * 		  the date in the format of the current view.
+		 * 		- Create the event tab with BorderLayout, the JLabel showing 
+		 * 		  time interval at BorderLayout.WEST and the JLabel showing
+		 * 		  the name at BorderLayout.CENTER.
+		 */
+		public RowRenderer() {
+			timeTab = new JPanel(new BorderLayout(GAP, GAP));
+			
+			timeLabel = new JLabel();
+			timeLabel.setFont(Constants.CALENDAR_TIME_TAB_FONT);
+			timeLabel.setBorder(new EmptyBorder(0,10, 0, 0));
+			
+			timeTab.add(timeLabel, BorderLayout.WEST);
+			
+			
+			eventTab = new JPanel(new BorderLayout(GAP, GAP));
+			eventTab.setBackground(Color.WHITE);
+			eventTab.setBorder(new EmptyBorder(0, 0, GAP, 0));
+			
+			tLabel = new JLabel();
+			nLabel = new JLabel();
+			
+			tLabel.setOpaque(true);
+			nLabel.setOpaque(true);
+			
+			nLabel.setBorder(new EmptyBorder(0,10, 0, 0));
+			tLabel.setBorder(new EmptyBorder(0,10, 0, 0));
+			
+			tLabel.setPreferredSize(new Dimension(width/3, Constants.TAB_HEIGHT));
+			
+			eventTab.add(tLabel, BorderLayout.WEST);
+			eventTab.add(nLabel, BorderLayout.CENTER);
+		}
+
+		/* 
+		 * getListCellRendererComponent method.
+		 * ------
+		 * Fill the time tab or the event tab with the data of a row. The
+		 * background color of an event tab depends on whether the index of
+		 * its event is even or odd.
+		 * 
+		 * @return the tab to be painted for the row.
+		 */
+		@Override
+		public Component getListCellRendererComponent(JList<? extends Event> list, 
+				Event e, int row, boolean isSelected, boolean cellHasFocus) {
+			
+			if(rowModel.isTimeRow(row)) {
+				timeLabel.setText(e.getFormattedTime(rowModel.getTimeFormat()));
+				return timeTab;
+			}
+			
+			Color lColor;
+			
+			if(rowModel.getEventIndex(row)%2 == 0) {
+				lColor = Constants.EVEN_EVENT_TAB_COLOR;
+			}
+			else {
+				lColor = Constants.ODD_EVENT_TAB_COLOR;
+			}
+			
+			tLabel.setText(e.getTimeInterval());
+			nLabel.setText(e.getName());
+			
+			tLabel.setBackground(lColor);
+			nLabel.setBackground(lColor);
+			
+			return eventTab;
+		}
+		
+	}
+
+
+	
+}